@@ -0,0 +1,14 @@
+package android.support.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Stand-in for the support library annotation.
+ */
+@Documented
+@Retention(CLASS)
+public @interface NonNull {
+}
@@ -0,0 +1,56 @@
+package android.util;
+
+/**
+ * Stand-in for the Android logger so benchmarks measure FyzLog rather than logcat.
+ * <p>
+ * Output is discarded unless a {@link #printer} is set, as the stress harness does to check
+ * what reached logcat.
+ */
+public final class Log {
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+    public static final int ASSERT = 7;
+
+    /**
+     * Receives "tag: msg" for every call when set.
+     */
+    public static volatile Printer printer;
+
+    private Log() {
+    }
+
+    public static int v(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    public static int d(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    public static int i(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    public static int w(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    public static int e(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    public static int wtf(final String tag, final String msg) {
+        return print(tag, msg);
+    }
+
+    private static int print(final String tag, final String msg) {
+        final Printer current = printer;
+        if (current != null) {
+            current.println(tag + ": " + msg);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,8 @@
+package android.util;
+
+/**
+ * Stand-in for Android's line printer; see {@link Log#printer}.
+ */
+public interface Printer {
+    void println(String x);
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Captures log requests into a {@link LogRing} and writes them to the sink on a background thread.
+ * <p>
+ * The level, caller and thread are captured on the logging thread, so output matches
+ * writing to the sink directly. Arguments are held by reference until they are formatted;
+ * don't mutate them after logging.
+ * <p>
+ * Once the consumer has stopped, by {@link #shutdown()} or by dying, whatever is still queued
+ * and anything logged afterwards is written on the logging thread.
+ */
+/* package */ final class AsyncLogger extends Logger {
+//Understands moving formatting and output off the logging thread
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Logger sink;
+    private final LogRing ring;
+    private final BackPressure backPressure;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean sleeping;
+    private volatile boolean running = true;
+
+    /* package */ AsyncLogger(final Logger sink, final int capacity, final BackPressure backPressure) {
+        this.sink = sink;
+        this.ring = new LogRing(capacity);
+        this.backPressure = backPressure;
+        this.consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "FyzLog-async");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    /* package */ boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+        return sink.isLoggable(level, logLevel);
+    }
+
+    /**
+     * Only {@link BackPressure#BLOCK} makes the logging thread wait, and only while the queue is full.
+     */
+    @Override
+    /* package */ boolean mayBlock() {
+        return backPressure == BackPressure.BLOCK;
+    }
+
+    @Override
+    /* package */ void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        if (!running || Thread.currentThread() == consumer) {
+            sink.write(level, logLevel, site, threadName, msgFormat, args);
+            return;
+        }
+
+        while (!ring.offer(level, logLevel, site, threadName, msgFormat, args)) {
+            if (!running || !consumer.isAlive()) {
+                //Nothing will make room any more
+                drain();
+                sink.write(level, logLevel, site, threadName, msgFormat, args);
+                return;
+            }
+            wakeConsumer();
+            if (!backPressure.makeRoom(ring, metrics())) {
+                dropped.incrementAndGet();
+                metrics().dropped();
+                return;
+            }
+        }
+        if (!running) {
+            //Offered after the consumer drained the ring and stopped
+            drain();
+        } else if (sleeping) {
+            wakeConsumer();
+        }
+    }
+
+    private void drain() {
+        while (ring.poll(sink)) {
+        }
+    }
+
+    /**
+     * Records into the same metrics as the sink, which counts the bytes it emits.
+     */
+    @Override
+    /* package */ void recordMetricsTo(final LogMetrics metrics) {
+        super.recordMetricsTo(metrics);
+        sink.recordMetricsTo(metrics);
+    }
+
+    /**
+     * Blocks until everything logged before this call has been written or dropped.
+     */
+    /* package */ void flush() {
+        if (Thread.currentThread() == consumer) {
+            return;
+        }
+        final long target = ring.claimed();
+        while (ring.retired() < target && consumer.isAlive()) {
+            wakeConsumer();
+            LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Flushes and stops the consumer; anything logged afterwards is written on the logging thread.
+     */
+    /* package */ void shutdown() throws InterruptedException {
+        flush();
+        running = false;
+        wakeConsumer();
+        consumer.join();
+        //Anything offered while the consumer was stopping
+        drain();
+    }
+
+    /**
+     * @return how many events back pressure dropped, newest or oldest
+     */
+    /* package */ long dropped() {
+        return dropped.get() + ring.discarded();
+    }
+
+    private void wakeConsumer() {
+        LockSupport.unpark(consumer);
+    }
+
+    private void consume() {
+        try {
+            consumeUntilStopped();
+        } finally {
+            //Should the sink kill the consumer, producers write for themselves
+            running = false;
+        }
+    }
+
+    private void consumeUntilStopped() {
+        while (running || !ring.isEmpty()) {
+            try {
+                if (ring.poll(sink)) {
+                    continue;
+                }
+            } catch (final RuntimeException ignored) {
+                //A failing sink must not stop the consumer
+                continue;
+            } catch (final Error ignored) {
+                //Nor one that fails harder
+                continue;
+            }
+            sleeping = true;
+            if (ring.isEmpty() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What a producer does when the {@link LogRing} it is writing to is full.
+ */
+/* package */ abstract class BackPressure {
+//Understands what to do when logging outpaces the consumer
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /* package */ static final BackPressure BLOCK = new BackPressure() {
+        @Override /* package */ boolean makeRoom(final LogRing ring, final LogMetrics metrics) {
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            return true;
+        }
+    };
+    /* package */ static final BackPressure DROP_NEWEST = new BackPressure() {
+        @Override /* package */ boolean makeRoom(final LogRing ring, final LogMetrics metrics) {
+            return false;
+        }
+    };
+    /* package */ static final BackPressure DROP_OLDEST = new BackPressure() {
+        @Override /* package */ boolean makeRoom(final LogRing ring, final LogMetrics metrics) {
+            if (ring.poll(null)) {
+                metrics.dropped();
+            }
+            return true;
+        }
+    };
+
+    private BackPressure() {
+    }
+
+    /**
+     * Called after a failed offer, once the consumer has been woken.
+     * <p>
+     * Events discarded to make room are counted in {@code metrics}; the caller counts a dropped new event.
+     *
+     * @return true to offer again, false to drop the new event
+     */
+    /* package */
+    abstract boolean makeRoom(final LogRing ring, final LogMetrics metrics);
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the binary log, shared by {@link BinaryLogger} and {@link BinaryLogReader}.
+ * <p>
+ * Each segment starts with {@link #MAGIC} and {@link #VERSION} and describes itself:
+ * a format string, call site or thread name is defined in the segment before the first
+ * event that refers to it by ID. A definition may be repeated later with a new ID; the
+ * latest one for an ID is the one that counts.
+ * <pre>
+ * FORMAT id:varint text:string
+ * SITE   id:varint className:string methodName:string
+ * THREAD id:varint name:string
+ * EVENT  level:byte logLevel:byte millis:varlong thread:varint site:varint format:varint
+ *        argCount:varint (argType:byte value)*
+ * </pre>
+ * Strings are a varint byte count followed by UTF-8. Varints are unsigned LEB128;
+ * signed arguments are zig-zag encoded first.
+ */
+/* package */ final class BinaryLogFormat {
+//Understands the shape of a binary log
+
+    /* package */ static final int MAGIC = 0x46595A42; // "FYZB"
+    /* package */ static final byte VERSION = 1;
+    /* package */ static final int HEADER_BYTES = 4 + 1;
+
+    /* package */ static final byte FORMAT = 1;
+    /* package */ static final byte SITE = 2;
+    /* package */ static final byte THREAD = 3;
+    /* package */ static final byte EVENT = 4;
+
+    /* package */ static final byte ARG_NULL = 0;
+    /* package */ static final byte ARG_STRING = 1;
+    /* package */ static final byte ARG_INT = 2;
+    /* package */ static final byte ARG_LONG = 3;
+    /* package */ static final byte ARG_BOOLEAN = 4;
+    /* package */ static final byte ARG_DOUBLE = 5;
+    /* package */ static final byte ARG_FLOAT = 6;
+    /* package */ static final byte ARG_SHORT = 7;
+    /* package */ static final byte ARG_BYTE = 8;
+    /* package */ static final byte ARG_CHAR = 9;
+    /* package */ static final byte ARG_BIG_INTEGER = 10;
+
+    private BinaryLogFormat() {
+    }
+
+    /* package */ static void putVarLong(final ByteBuffer out, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.put((byte) remaining);
+    }
+
+    /* package */ static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /* package */ static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /* package */ static void putString(final ByteBuffer out, final CharSequence text) {
+        putVarLong(out, Utf8.encodedLength(text, 0, text.length()));
+        if (Utf8.encode(text, 0, text.length(), out) < text.length()) {
+            throw new BufferOverflowException();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IllegalFormatException;
+
+/**
+ * Reads one segment written by {@link BinaryLogger}, an event at a time.
+ * <p>
+ * A segment cut short mid-record, as a crash leaves it, ends at the last complete event.
+ */
+/* package */ final class BinaryLogReader {
+//Understands turning a binary log back into log requests
+
+    private final DataInputStream in;
+    private final HashMap<Integer, String> formats = new HashMap<>();
+    private final HashMap<Integer, CallSite> sites = new HashMap<>();
+    private final HashMap<Integer, String> threads = new HashMap<>();
+
+    private LogLevel level;
+    private LogLevel logLevel;
+    private long millis;
+    private String threadName;
+    private CallSite site;
+    private String msgFormat;
+    private Object[] args;
+
+    /* package */ BinaryLogReader(final InputStream in) throws IOException {
+        this(in, true);
+    }
+
+    private BinaryLogReader(final InputStream in, final boolean header) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (!header) {
+            return;
+        }
+        if (this.in.readInt() != BinaryLogFormat.MAGIC) {
+            throw new IOException("Not a FyzLog binary log");
+        }
+        final byte version = this.in.readByte();
+        if (version != BinaryLogFormat.VERSION) {
+            throw new IOException("Unsupported FyzLog binary log version " + version);
+        }
+    }
+
+    /**
+     * Reads from the start of a {@link LogIndex} block, past the segment's header.
+     */
+    /* package */ static BinaryLogReader fromBlock(final InputStream in) throws IOException {
+        return new BinaryLogReader(in, false);
+    }
+
+    /**
+     * Advances to the next event.
+     *
+     * @return false at the end of the segment
+     */
+    /* package */ boolean next() throws IOException {
+        try {
+            while (true) {
+                final int type = in.read();
+                if (type == -1) {
+                    return false;
+                }
+                switch (type) {
+                    case BinaryLogFormat.FORMAT:
+                        formats.put(readVarInt(), readString());
+                        break;
+                    case BinaryLogFormat.SITE:
+                        final int siteId = readVarInt();
+                        sites.put(siteId, CallSite.of(readString(), readString()));
+                        break;
+                    case BinaryLogFormat.THREAD:
+                        threads.put(readVarInt(), readString());
+                        break;
+                    case BinaryLogFormat.EVENT:
+                        readEvent();
+                        return true;
+                    default:
+                        throw new IOException("Unknown FyzLog binary record " + type);
+                }
+            }
+        } catch (final EOFException e) {
+            return false;
+        }
+    }
+
+    /* package */ void close() throws IOException {
+        in.close();
+    }
+
+    /* package */ LogLevel level() {
+        return level;
+    }
+
+    /* package */ LogLevel logLevel() {
+        return logLevel;
+    }
+
+    /* package */ long millis() {
+        return millis;
+    }
+
+    /* package */ String threadName() {
+        return threadName;
+    }
+
+    /* package */ CallSite site() {
+        return site;
+    }
+
+    /* package */ String msgFormat() {
+        return msgFormat;
+    }
+
+    /* package */ Object[] args() {
+        return args;
+    }
+
+    /**
+     * @return the current event as {@link Logger#SystemOut} writes it, or with its raw format
+     * and arguments if they can't be formatted here
+     */
+    /* package */ String systemOutLine() {
+        final StringBuilder line = new StringBuilder();
+        line.append(level.tag()).append('@').append(logLevel.tag()).append("/ ")
+                .append(site.tag()).append(' ');
+        final int start = line.length();
+        try {
+            Logger.appendMessage(line, site, threadName, msgFormat, args);
+        } catch (final IllegalFormatException e) {
+            //One unreadable message shouldn't stop the rest being read
+            line.setLength(start);
+            Logger.appendMessage(line, site, threadName, "%s %s", new Object[]{msgFormat, Arrays.toString(args)});
+        }
+        return line.toString();
+    }
+
+    private void readEvent() throws IOException {
+        level = LogLevel.of(in.readByte());
+        logLevel = LogLevel.of(in.readByte());
+        millis = readVarLong();
+        threadName = lookup(threads, readVarInt());
+        site = lookup(sites, readVarInt());
+        msgFormat = lookup(formats, readVarInt());
+        final int argCount = readVarInt();
+        args = argCount == 0 ? null : new Object[argCount];
+        for (int i = 0; i < argCount; i++) {
+            args[i] = readArg();
+        }
+    }
+
+    private Object readArg() throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case BinaryLogFormat.ARG_NULL:
+                return null;
+            case BinaryLogFormat.ARG_STRING:
+                return readString();
+            case BinaryLogFormat.ARG_INT:
+                return (int) BinaryLogFormat.unZigZag(readVarLong());
+            case BinaryLogFormat.ARG_LONG:
+                return BinaryLogFormat.unZigZag(readVarLong());
+            case BinaryLogFormat.ARG_BOOLEAN:
+                return in.readByte() != 0;
+            case BinaryLogFormat.ARG_DOUBLE:
+                return in.readDouble();
+            case BinaryLogFormat.ARG_FLOAT:
+                return in.readFloat();
+            case BinaryLogFormat.ARG_SHORT:
+                return (short) BinaryLogFormat.unZigZag(readVarLong());
+            case BinaryLogFormat.ARG_BYTE:
+                return in.readByte();
+            case BinaryLogFormat.ARG_CHAR:
+                return in.readChar();
+            case BinaryLogFormat.ARG_BIG_INTEGER:
+                return new BigInteger(readString());
+            default:
+                throw new IOException("Unknown FyzLog binary argument " + type);
+        }
+    }
+
+    private static <T> T lookup(final HashMap<Integer, T> dictionary, final int id) throws IOException {
+        final T value = dictionary.get(id);
+        if (value == null) {
+            throw new IOException("FyzLog binary log refers to undefined id " + id);
+        }
+        return value;
+    }
+
+    private int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Malformed FyzLog binary varint");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        final byte[] bytes = new byte[readVarInt()];
+        in.readFully(bytes);
+        return new String(bytes, "UTF-8");
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Formattable;
+import java.util.HashMap;
+
+/**
+ * Writes log requests to a {@link RollingFile} as compact binary records, leaving formatting
+ * to {@link BinaryLogReader} when the log is actually read.
+ * <p>
+ * Arguments are kept as raw primitives and strings. Any other object is stored as its
+ * {@code toString()}, which is what {@code %s} renders for everything but a
+ * {@link Formattable}. A message where that isn't enough, because such an argument meets a
+ * conversion other than {@code %s} or formats itself, is formatted here and stored as one string.
+ * Give the binary log its own directory; its segments share the text log's naming.
+ * <p>
+ * With a {@link LogIndex}, the segment is split into blocks that each define what they
+ * refer to, and every record is added to the index.
+ */
+/* package */ final class BinaryLogger extends Logger {
+//Understands recording log requests without formatting them
+
+    private static final int INITIAL_RECORD_BYTES = 4 * 1024;
+
+    private final RollingFile file;
+    private final LogIndex index;
+    private final HashMap<String, Integer> formats = new HashMap<>();
+    private final HashMap<CallSite, Integer> sites = new HashMap<>();
+    private final HashMap<String, Integer> threads = new HashMap<>();
+    private ByteBuffer record = ByteBuffer.allocate(INITIAL_RECORD_BYTES);
+    private long segmentBytes;
+
+    /* package */ BinaryLogger(final RollingFile file) {
+        this(file, null);
+    }
+
+    /* package */ BinaryLogger(final RollingFile file, final LogIndex index) {
+        this.file = file;
+        this.index = index;
+    }
+
+    @Override
+    /* package */ boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+        return level.logAt(logLevel);
+    }
+
+    @Override
+    /* package */ void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        if (needsFormatting(msgFormat, args)) {
+            write(level, logLevel, site, threadName, "%s", new Object[]{MessageTemplate.format(msgFormat, args)});
+            return;
+        }
+        final long millis = System.currentTimeMillis();
+        synchronized (file) {
+            final boolean newSegment = file.rollIfNeeded();
+            if (newSegment) {
+                segmentBytes = 0;
+            }
+            final boolean newBlock = newSegment || (index != null && index.isBlockFull(segmentBytes));
+            if (newBlock) {
+                formats.clear();
+                sites.clear();
+                threads.clear();
+            }
+
+            final Integer knownFormat = formats.get(msgFormat);
+            final Integer knownSite = sites.get(site);
+            final Integer knownThread = threads.get(threadName);
+            final int formatId = knownFormat != null ? knownFormat : formats.size();
+            final int siteId = knownSite != null ? knownSite : sites.size();
+            final int threadId = knownThread != null ? knownThread : threads.size();
+
+            while (true) {
+                record.clear();
+                try {
+                    if (newSegment) {
+                        record.putInt(BinaryLogFormat.MAGIC);
+                        record.put(BinaryLogFormat.VERSION);
+                    }
+                    if (knownFormat == null) {
+                        record.put(BinaryLogFormat.FORMAT);
+                        BinaryLogFormat.putVarLong(record, formatId);
+                        BinaryLogFormat.putString(record, msgFormat);
+                    }
+                    if (knownSite == null) {
+                        record.put(BinaryLogFormat.SITE);
+                        BinaryLogFormat.putVarLong(record, siteId);
+                        BinaryLogFormat.putString(record, site.className());
+                        BinaryLogFormat.putString(record, site.methodName());
+                    }
+                    if (knownThread == null) {
+                        record.put(BinaryLogFormat.THREAD);
+                        BinaryLogFormat.putVarLong(record, threadId);
+                        BinaryLogFormat.putString(record, threadName);
+                    }
+                    putEvent(level, logLevel, millis, threadId, siteId, formatId, args);
+                    break;
+                } catch (final BufferOverflowException e) {
+                    record = ByteBuffer.allocate(record.capacity() * 2);
+                }
+            }
+
+            if (knownFormat == null) formats.put(msgFormat, formatId);
+            if (knownSite == null) sites.put(site, siteId);
+            if (knownThread == null) threads.put(threadName, threadId);
+
+            record.flip();
+            final int length = record.remaining();
+            metrics().emitted(length);
+            final File segment = file.current();
+            if (index != null && segment != null) {
+                final int header = newSegment ? BinaryLogFormat.HEADER_BYTES : 0;
+                index.recorded(segment, newBlock, segmentBytes + header, length - header, millis, level, site);
+            }
+            file.append(record);
+            segmentBytes += length;
+            if (record.capacity() > 16 * INITIAL_RECORD_BYTES) {
+                record = ByteBuffer.allocate(INITIAL_RECORD_BYTES);
+            }
+        }
+    }
+
+    /**
+     * Keeps each field's type: the message and keys become the format, and the values its arguments.
+     */
+    @Override
+    /* package */ void writeEvent(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String message, final LogEvent event) {
+        write(level, logLevel, site, threadName, event.template(message), Logger.resolveLazyArgs(event.values()));
+    }
+
+    /**
+     * Writes anything buffered and forces it to disk.
+     */
+    /* package */ void sync() {
+        file.sync();
+    }
+
+    /* package */ void close() {
+        file.close();
+    }
+
+    /**
+     * Whether the reader couldn't format the message from what would be stored for {@code args}.
+     */
+    private static boolean needsFormatting(final String msgFormat, final Object[] args) {
+        if (args == null) {
+            return false;
+        }
+        boolean storedAsText = false;
+        for (final Object arg : args) {
+            if (arg instanceof Formattable) {
+                return true;
+            }
+            if (arg != null && !keepsType(arg)) {
+                storedAsText = true;
+            }
+        }
+        return storedAsText && !convertsOnlyToStrings(msgFormat);
+    }
+
+    private static boolean keepsType(final Object arg) {
+        return arg instanceof String || arg instanceof Integer || arg instanceof Long || arg instanceof Boolean
+                || arg instanceof Double || arg instanceof Float || arg instanceof Short || arg instanceof Byte
+                || arg instanceof Character || arg instanceof BigInteger;
+    }
+
+    /**
+     * @return true if every conversion in {@code msgFormat} is a plain {@code %s}, {@code %%} or {@code %n}
+     */
+    private static boolean convertsOnlyToStrings(final String msgFormat) {
+        for (int i = msgFormat.indexOf('%'); i >= 0; i = msgFormat.indexOf('%', i + 2)) {
+            if (i + 1 == msgFormat.length()) {
+                return false;
+            }
+            final char conversion = msgFormat.charAt(i + 1);
+            if (conversion != 's' && conversion != '%' && conversion != 'n') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putEvent(final LogLevel level, final LogLevel logLevel, final long millis, final int threadId, final int siteId, final int formatId, final Object[] args) {
+        record.put(BinaryLogFormat.EVENT);
+        record.put((byte) level.level());
+        record.put((byte) logLevel.level());
+        BinaryLogFormat.putVarLong(record, millis);
+        BinaryLogFormat.putVarLong(record, threadId);
+        BinaryLogFormat.putVarLong(record, siteId);
+        BinaryLogFormat.putVarLong(record, formatId);
+        final int argCount = args == null ? 0 : args.length;
+        BinaryLogFormat.putVarLong(record, argCount);
+        for (int i = 0; i < argCount; i++) {
+            putArg(args[i]);
+        }
+    }
+
+    private void putArg(final Object arg) {
+        if (arg == null) {
+            record.put(BinaryLogFormat.ARG_NULL);
+        } else if (arg instanceof String) {
+            record.put(BinaryLogFormat.ARG_STRING);
+            BinaryLogFormat.putString(record, (String) arg);
+        } else if (arg instanceof Integer) {
+            record.put(BinaryLogFormat.ARG_INT);
+            BinaryLogFormat.putVarLong(record, BinaryLogFormat.zigZag((Integer) arg));
+        } else if (arg instanceof Long) {
+            record.put(BinaryLogFormat.ARG_LONG);
+            BinaryLogFormat.putVarLong(record, BinaryLogFormat.zigZag((Long) arg));
+        } else if (arg instanceof Boolean) {
+            record.put(BinaryLogFormat.ARG_BOOLEAN);
+            record.put((byte) ((Boolean) arg ? 1 : 0));
+        } else if (arg instanceof Double) {
+            record.put(BinaryLogFormat.ARG_DOUBLE);
+            record.putDouble((Double) arg);
+        } else if (arg instanceof Float) {
+            record.put(BinaryLogFormat.ARG_FLOAT);
+            record.putFloat((Float) arg);
+        } else if (arg instanceof Short) {
+            record.put(BinaryLogFormat.ARG_SHORT);
+            BinaryLogFormat.putVarLong(record, BinaryLogFormat.zigZag((Short) arg));
+        } else if (arg instanceof Byte) {
+            record.put(BinaryLogFormat.ARG_BYTE);
+            record.put((Byte) arg);
+        } else if (arg instanceof Character) {
+            record.put(BinaryLogFormat.ARG_CHAR);
+            record.putChar((Character) arg);
+        } else if (arg instanceof BigInteger) {
+            record.put(BinaryLogFormat.ARG_BIG_INTEGER);
+            BinaryLogFormat.putString(record, arg.toString());
+        } else {
+            record.put(BinaryLogFormat.ARG_STRING);
+            BinaryLogFormat.putString(record, String.valueOf(arg));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class and method a log request was made from.
+ * <p>
+ * The tag and method name are derived once per distinct calling frame and cached,
+ * so repeated logging from the same line only pays for capturing the stack.
+ * Tags are also cached per class, so every site in a class shares one.
+ * Either cache is emptied when full, so sites that stop logging don't keep out new ones.
+ */
+/* package */ final class CallSite {
+//Understands where a log request came from
+
+    /* package */ static final String TAG_PREFIX = "FYZ:";
+    private static final String LOGGER_CLASS_NAME = FyzLog.class.getName();
+    private static final String EVENT_CLASS_NAME = LogEvent.class.getName();
+    private static final int MAX_CACHED_SITES = 512;
+    private static final ConcurrentHashMap<StackTraceElement, CallSite> sites = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, String> tags = new ConcurrentHashMap<>();
+    private static volatile boolean hinting;
+    private static final ThreadLocal<Hint> hints = new ThreadLocal<Hint>() {
+        @Override
+        protected Hint initialValue() {
+            return new Hint();
+        }
+    };
+
+    /* package */ static final CallSite UNKNOWN = of(LOGGER_CLASS_NAME, "unknown");
+
+    private final StackTraceElement frame;
+    private final String className;
+    private final String tag;
+    private final String methodName;
+    private volatile Threshold threshold = Threshold.UNRESOLVED;
+
+    private CallSite(final StackTraceElement frame) {
+        this.frame = frame;
+        this.className = frame.getClassName();
+        this.tag = tagFor(className);
+        this.methodName = frame.getMethodName();
+    }
+
+    /**
+     * Finds the first frame outside of FyzLog and LogEvent, walking no further than that frame.
+     * <p>
+     * A {@link #hint} for the same format string instance is used instead, once.
+     * <p>
+     * A {@link Throwable} is used rather than {@link Thread#getStackTrace()}, which adds
+     * the VM's own frames on Android and creates an exception internally on the JVM anyway.
+     */
+    /* package */ static CallSite resolve(final String msgFormat) {
+        final CallSite hinted = hints.get().take(msgFormat);
+        if (hinted != null) {
+            return hinted;
+        }
+        final StackTraceElement frame = callingFrame(new Throwable().getStackTrace());
+        if (frame == null) {
+            return UNKNOWN;
+        }
+        return of(frame);
+    }
+
+    /**
+     * Names the caller of the next log request on this thread that uses {@code msgFormat},
+     * so the stack isn't captured to find it. The build's log stripping adds these calls.
+     */
+    /* package */ static void hint(final String className, final String methodName, final String msgFormat) {
+        if (!hinting) {
+            hinting = true;
+        }
+        hints.get().set(className, methodName, msgFormat);
+    }
+
+    /**
+     * Drops a {@link #hint} the call it was for didn't take, because that call was filtered or its
+     * caller wasn't looked up, so a later call with the same format string can't take it.
+     * <p>
+     * Costs nothing until the first hint.
+     */
+    /* package */ static void forgetHint() {
+        if (hinting) {
+            hints.get().msgFormat = null;
+        }
+    }
+
+    private static CallSite of(final StackTraceElement frame) {
+        final CallSite cached = sites.get(frame);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CallSite site = new CallSite(frame);
+        if (sites.size() >= MAX_CACHED_SITES) {
+            sites.clear();
+        }
+        final CallSite raced = sites.putIfAbsent(frame, site);
+        return raced != null ? raced : site;
+    }
+
+    /* package */ static CallSite of(final String className, final String methodName) {
+        return new CallSite(new StackTraceElement(className, methodName, null, -1));
+    }
+
+    /**
+     * One tag per class, shared by all of its call sites.
+     */
+    private static String tagFor(final String className) {
+        final String cached = tags.get(className);
+        if (cached != null) {
+            return cached;
+        }
+        final String tag = TAG_PREFIX + className.substring(className.lastIndexOf('.') + 1);
+        if (tags.size() >= MAX_CACHED_SITES) {
+            tags.clear();
+        }
+        final String raced = tags.putIfAbsent(className, tag);
+        return raced != null ? raced : tag;
+    }
+
+    private static StackTraceElement callingFrame(final StackTraceElement[] stack) {
+        boolean hitLogger = false;
+        for (final StackTraceElement ste : stack) {
+            final boolean isLogger = ste.getClassName().startsWith(LOGGER_CLASS_NAME)
+                    || ste.getClassName().equals(EVENT_CLASS_NAME);
+            hitLogger = hitLogger || isLogger;
+            if (hitLogger && !isLogger) {
+                return ste;
+            }
+        }
+        return null;
+    }
+
+    /* package */ String className() {
+        return className;
+    }
+
+    /* package */ String tag() {
+        return tag;
+    }
+
+    /* package */ String methodName() {
+        return methodName;
+    }
+
+    /**
+     * The frame this site was found at, which tells it apart from other sites in the same method.
+     * <p>
+     * Every lookup of the same site has an equal frame, even once a full cache has been emptied and
+     * the site is a new instance, so state kept per site is keyed by this.
+     */
+    /* package */ StackTraceElement frame() {
+        return frame;
+    }
+
+    /**
+     * The level this site logs at: its override if it has one, else {@code logLevel}.
+     * <p>
+     * The override is looked up once per {@link LevelOverrides} instance and cached.
+     */
+    /* package */ LogLevel logLevel(final LevelOverrides overrides, final LogLevel logLevel) {
+        Threshold current = threshold;
+        if (current.overrides != overrides) {
+            current = new Threshold(overrides, overrides.lookup(className));
+            threshold = current;
+        }
+        return current.level != null ? current.level : logLevel;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) return true;
+        if (!(other instanceof CallSite)) return false;
+        final CallSite that = (CallSite) other;
+        return className.equals(that.className) && methodName.equals(that.methodName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * className.hashCode() + methodName.hashCode();
+    }
+
+    private static final class Threshold {
+        private static final Threshold UNRESOLVED = new Threshold(null, null);
+
+        private final LevelOverrides overrides;
+        private final LogLevel level;
+
+        private Threshold(final LevelOverrides overrides, final LogLevel level) {
+            this.overrides = overrides;
+            this.level = level;
+        }
+    }
+
+    private static final class Hint {
+        private String className;
+        private String methodName;
+        private String msgFormat;
+        private CallSite site;
+
+        private void set(final String className, final String methodName, final String msgFormat) {
+            if (className != this.className || methodName != this.methodName) {
+                this.className = className;
+                this.methodName = methodName;
+                this.site = null;
+            }
+            this.msgFormat = msgFormat;
+        }
+
+        private CallSite take(final String msgFormat) {
+            if (msgFormat == null || msgFormat != this.msgFormat) {
+                return null;
+            }
+            this.msgFormat = null;
+            if (site == null) {
+                site = of(new StackTraceElement(className, methodName, null, -1));
+            }
+            return site;
+        }
+    }
+}
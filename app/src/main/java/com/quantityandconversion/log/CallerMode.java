@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Controls when the calling class and method are looked up.
+ * <p>
+ * Looking up the caller captures the stack, which is the most expensive part of a log call.
+ * Anything not resolved is reported against {@link CallSite#UNKNOWN}.
+ */
+/* package */ abstract class CallerMode {
+//Understands how much effort to spend finding the caller
+
+    /* package */ static final CallerMode ALWAYS = new CallerMode() {
+        @Override /* package */ CallSite callSite(final LogLevel level, final String msgFormat) {
+            return CallSite.resolve(msgFormat);
+        }
+    };
+    /* package */ static final CallerMode WARN_AND_ABOVE = new CallerMode() {
+        @Override /* package */ CallSite callSite(final LogLevel level, final String msgFormat) {
+            return level.logAt(LogLevel.WARN) ? CallSite.resolve(msgFormat) : CallSite.UNKNOWN;
+        }
+    };
+    /* package */ static final CallerMode NEVER = new CallerMode() {
+        @Override /* package */ CallSite callSite(final LogLevel level, final String msgFormat) {
+            return CallSite.UNKNOWN;
+        }
+    };
+
+    private CallerMode() {
+    }
+
+    /* package */
+    abstract CallSite callSite(final LogLevel level, final String msgFormat);
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses a message repeated from the same call site on the same thread into one line,
+ * followed by how many times it was repeated.
+ * <p>
+ * A repeat comes from the same {@link CallSite#frame() site}, with the same level, the same format
+ * string instance and equal arguments, so it is recognised before it is formatted. An argument that
+ * is the very instance logged last time only counts as equal if it can't have changed, such as a
+ * String or a boxed primitive. Messages whose caller wasn't looked up are never repeats, as they
+ * can't be told apart from another site's. Each thread holds only the last message it wrote. The count
+ * is written when the thread logs something else, and at least every {@code maxHoldMillis} while
+ * repeats are held, from a background thread if the repeating thread has gone quiet. The repeats
+ * count as suppressed in the logger's {@link LogMetrics}, and the line with their count as logged.
+ * <p>
+ * Instances are immutable apart from what each thread holds; {@link #NONE} coalesces nothing.
+ */
+/* package */ class Coalescing {
+//Understands saying the same thing once
+
+    /* package */ static final String REPEATED_FORMAT = "last message repeated %d times";
+
+    /* package */ static final Coalescing NONE = new Coalescing(0) {
+        @Override
+        /* package */ boolean isRepeat(final Logger logger, final LogLevel level, final LogLevel logLevel, final CallSite site,
+                                       final String threadName, final String msgFormat, final Object[] args) {
+            return false;
+        }
+    };
+
+    private static Timer sweeper;
+
+    private final long maxHoldNanos;
+    private final long sweepMillis;
+    private final Queue<Held> holding = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Held> held = new ThreadLocal<Held>() {
+        @Override
+        protected Held initialValue() {
+            return new Held();
+        }
+    };
+    private TimerTask sweep;
+
+    private Coalescing(final long maxHoldMillis) {
+        this.maxHoldNanos = TimeUnit.MILLISECONDS.toNanos(maxHoldMillis);
+        this.sweepMillis = Math.max(1, maxHoldMillis);
+    }
+
+    /**
+     * Coalesces repeats, holding their count for at most {@code maxHoldMillis}.
+     */
+    /* package */ static Coalescing holdingAtMost(final long maxHoldMillis) {
+        if (maxHoldMillis < 0) {
+            throw new IllegalArgumentException("Coalescing can't hold repeats for negative time");
+        }
+        return new Coalescing(maxHoldMillis);
+    }
+
+    /**
+     * Remembers the message if it isn't a repeat, first writing the count of any repeats held before it.
+     *
+     * @return true if the message repeats the last one and has been counted instead of written
+     */
+    /* package */ boolean isRepeat(final Logger logger, final LogLevel level, final LogLevel logLevel, final CallSite site,
+                                   final String threadName, final String msgFormat, final Object[] args) {
+        final Held held = this.held.get();
+        final boolean queue;
+        synchronized (held) {
+            if (!held.repeats(logger, level, site, msgFormat, args)) {
+                held.writeRepeats();
+                held.remember(logger, level, logLevel, site, threadName, msgFormat, args);
+                return false;
+            }
+            final long nowNanos = System.nanoTime();
+            queue = held.repeated(nowNanos);
+            if (nowNanos - held.firstRepeatNanos >= maxHoldNanos) {
+                held.writeRepeats();
+            }
+        }
+        if (queue) {
+            holding.add(held);
+            startSweeping();
+        }
+        return true;
+    }
+
+    private synchronized void startSweeping() {
+        if (sweep != null) {
+            return;
+        }
+        sweep = new TimerTask() {
+            @Override
+            public void run() {
+                sweep();
+            }
+        };
+        sweeper().schedule(sweep, sweepMillis, sweepMillis);
+    }
+
+    private void sweep() {
+        final long nowNanos = System.nanoTime();
+        for (final Iterator<Held> it = holding.iterator(); it.hasNext(); ) {
+            final Held held = it.next();
+            synchronized (held) {
+                if (held.count > 0 && nowNanos - held.firstRepeatNanos >= maxHoldNanos) {
+                    held.writeRepeats();
+                }
+                if (held.count == 0) {
+                    held.queued = false;
+                    it.remove();
+                }
+            }
+        }
+        synchronized (this) {
+            if (holding.isEmpty()) {
+                sweep.cancel();
+                sweep = null;
+            }
+        }
+    }
+
+    private static synchronized Timer sweeper() {
+        if (sweeper == null) {
+            sweeper = new Timer("FyzLog-coalesce", true);
+        }
+        return sweeper;
+    }
+
+    private static final class Held {
+        private Logger logger;
+        private LogLevel level;
+        private LogLevel logLevel;
+        private CallSite site;
+        private String threadName;
+        private String msgFormat;
+        private Object[] args;
+        private long count;
+        private long firstRepeatNanos;
+        private boolean queued;
+
+        private boolean repeats(final Logger logger, final LogLevel level, final CallSite site, final String msgFormat, final Object[] args) {
+            return msgFormat == this.msgFormat && level == this.level && logger == this.logger
+                    && site != CallSite.UNKNOWN && this.site != null
+                    && (site == this.site || site.frame().equals(this.site.frame()))
+                    && sameArgs(args, this.args);
+        }
+
+        private static boolean sameArgs(final Object[] args, final Object[] held) {
+            if (args == null || held == null) {
+                return args == held;
+            }
+            if (args.length != held.length) {
+                return false;
+            }
+            for (int i = 0; i < args.length; i++) {
+                final Object arg = args[i];
+                if (arg == held[i]) {
+                    //The same instance may have changed since; it would always equal itself
+                    if (arg != null && !isImmutable(arg)) {
+                        return false;
+                    }
+                } else if (arg == null || !arg.equals(held[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether {@code arg} is sure to read the same as when it was held.
+         */
+        private static boolean isImmutable(final Object arg) {
+            final Class<?> type = arg.getClass();
+            return type == String.class || type == Integer.class || type == Long.class || type == Boolean.class
+                    || type == Character.class || type == Byte.class || type == Short.class
+                    || type == Double.class || type == Float.class || arg instanceof Enum;
+        }
+
+        private void remember(final Logger logger, final LogLevel level, final LogLevel logLevel, final CallSite site,
+                              final String threadName, final String msgFormat, final Object[] args) {
+            this.logger = logger;
+            this.level = level;
+            this.logLevel = logLevel;
+            this.site = site;
+            this.threadName = threadName;
+            this.msgFormat = msgFormat;
+            this.args = args;
+        }
+
+        /**
+         * @return true if this needs adding to the repeats being swept
+         */
+        private boolean repeated(final long nowNanos) {
+            if (count++ == 0) {
+                firstRepeatNanos = nowNanos;
+            }
+            if (queued) {
+                return false;
+            }
+            queued = true;
+            return true;
+        }
+
+        private void writeRepeats() {
+            if (count == 0) {
+                return;
+            }
+            final long repeats = count;
+            count = 0;
+            logger.metrics().logged(level);
+            logger.write(level, logLevel, site, threadName, REPEATED_FORMAT, new Object[]{repeats});
+        }
+    }
+}
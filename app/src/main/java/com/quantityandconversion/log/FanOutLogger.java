@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.Arrays;
+
+/**
+ * Writes each log request to several loggers, each with a level of its own.
+ * <p>
+ * A sink writes a message if it passes both the level FyzLog passes down and the sink's own.
+ * The caller is found once for all of them. When more than one sink writes a message it is
+ * formatted once, and every sink gets the formatted text. A sink added with
+ * {@link #withQueued} gets its own {@link AsyncLogger}, so a slow one doesn't hold up the rest.
+ * Only a sink that never blocks, such as {@link Logger#AndroidLog}, can be added with
+ * {@link #with} and written on the logging thread; anything that writes to disk is queued.
+ * <p>
+ * A sink that throws doesn't stop the others; the first exception is rethrown afterwards.
+ * Instances are immutable; adding a sink creates a new instance.
+ */
+/* package */ final class FanOutLogger extends Logger {
+//Understands writing to several places at once
+
+    private static final String FORMATTED = "%s";
+
+    private final Sink[] sinks;
+
+    /* package */ FanOutLogger() {
+        this(new Sink[0]);
+    }
+
+    private FanOutLogger(final Sink[] sinks) {
+        this.sinks = sinks;
+    }
+
+    /**
+     * Adds {@code sink}, written on the logging thread.
+     *
+     * @throws IllegalArgumentException if {@code sink} {@link Logger#mayBlock() may block}; add it {@link #withQueued} instead
+     */
+    /* package */ FanOutLogger with(final Logger sink, final LogLevel level) {
+        if (sink.mayBlock()) {
+            throw new IllegalArgumentException("FanOutLogger only writes to sinks that never block on the logging thread; add this one withQueued");
+        }
+        final Sink[] sinks = Arrays.copyOf(this.sinks, this.sinks.length + 1);
+        sinks[this.sinks.length] = new Sink(sink, level, null);
+        return new FanOutLogger(sinks);
+    }
+
+    /**
+     * Adds {@code sink} behind a queue and a thread of its own; see {@link AsyncLogger}.
+     */
+    /* package */ FanOutLogger withQueued(final Logger sink, final LogLevel level, final int capacity, final BackPressure backPressure) {
+        final AsyncLogger queue = new AsyncLogger(sink, capacity, backPressure);
+        final Sink[] sinks = Arrays.copyOf(this.sinks, this.sinks.length + 1);
+        sinks[this.sinks.length] = new Sink(queue, level, queue);
+        return new FanOutLogger(sinks);
+    }
+
+    @Override
+    /* package */ boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+        for (final Sink sink : sinks) {
+            if (sink.writes(level, logLevel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Blocks if a sink queued with {@link BackPressure#BLOCK} does.
+     */
+    @Override
+    /* package */ boolean mayBlock() {
+        for (final Sink sink : sinks) {
+            if (sink.logger.mayBlock()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    /* package */ void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        Sink only = null;
+        int writing = 0;
+        for (final Sink sink : sinks) {
+            if (sink.writes(level, logLevel)) {
+                only = sink;
+                writing++;
+            }
+        }
+        if (writing == 1) {
+            only.logger.write(level, logLevel, site, threadName, msgFormat, args);
+            return;
+        }
+        if (writing == 0) {
+            return;
+        }
+
+        final Object[] formatted = {MessageTemplate.format(msgFormat, args)};
+        RuntimeException failure = null;
+        for (final Sink sink : sinks) {
+            if (!sink.writes(level, logLevel)) {
+                continue;
+            }
+            try {
+                sink.logger.write(level, logLevel, site, threadName, FORMATTED, formatted);
+            } catch (final RuntimeException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Each sink gets the event's fields, so each can write them its own way.
+     */
+    @Override
+    /* package */ void writeEvent(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String message, final LogEvent event) {
+        RuntimeException failure = null;
+        for (final Sink sink : sinks) {
+            if (!sink.writes(level, logLevel)) {
+                continue;
+            }
+            try {
+                sink.logger.writeEvent(level, logLevel, site, threadName, message, event);
+            } catch (final RuntimeException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Sinks record into the same metrics, so the bytes each emits are counted.
+     */
+    @Override
+    /* package */ void recordMetricsTo(final LogMetrics metrics) {
+        super.recordMetricsTo(metrics);
+        for (final Sink sink : sinks) {
+            sink.logger.recordMetricsTo(metrics);
+        }
+    }
+
+    /**
+     * Blocks until every queued sink has written everything logged before this call.
+     */
+    /* package */ void flush() {
+        for (final Sink sink : sinks) {
+            if (sink.queue != null) {
+                sink.queue.flush();
+            }
+        }
+    }
+
+    /**
+     * Flushes and stops the queued sinks' threads.
+     */
+    /* package */ void shutdown() throws InterruptedException {
+        for (final Sink sink : sinks) {
+            if (sink.queue != null) {
+                sink.queue.shutdown();
+            }
+        }
+    }
+
+    private static final class Sink {
+        private final Logger logger;
+        private final LogLevel level;
+        private final AsyncLogger queue;
+
+        private Sink(final Logger logger, final LogLevel level, final AsyncLogger queue) {
+            this.logger = logger;
+            this.level = level;
+            this.queue = queue;
+        }
+
+        private boolean writes(final LogLevel level, final LogLevel logLevel) {
+            return level.logAt(this.level) && logger.isLoggable(level, logLevel);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Writes log lines to a {@link RollingFile}.
+ * <p>
+ * Lines read "yyyy-MM-dd HH:mm:ss.SSS L/FYZ:Class [thread] method : message".
+ */
+/* package */ final class FileLogger extends Logger {
+//Understands keeping a persistent copy of the log
+
+    private final RollingFile file;
+
+    /* package */ FileLogger(final RollingFile file) {
+        this.file = file;
+    }
+
+    @Override
+    /* package */ boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+        return level.logAt(logLevel);
+    }
+
+    @Override
+    /* package */ void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        final StringBuilder line = LineBuffer.acquire();
+        try {
+            Timestamp.appendTo(line, System.currentTimeMillis());
+            line.append(' ').append(level.tag()).append('/').append(site.tag()).append(' ');
+            appendMessage(line, site, threadName, msgFormat, args);
+            line.append('\n');
+            file.append(line);
+            metrics().emitted(line);
+        } finally {
+            LineBuffer.release(line);
+        }
+    }
+
+    /**
+     * Writes anything buffered and forces it to disk.
+     */
+    /* package */ void sync() {
+        file.sync();
+    }
+
+    /* package */ void close() {
+        file.close();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the last events logged, at every level, unformatted, to dump when something goes wrong.
+ * <p>
+ * Recording stores the level, format, args, thread and time into slots allocated once, in
+ * parallel arrays; it doesn't allocate, look up the caller or format anything. Each slot's
+ * sequence is cleared before it is written and set after, and a dump skips a slot whose
+ * sequence isn't the one it expects both before and after reading it, so it never writes an
+ * event half written. A dump formats the events recorded since the last dump, oldest first,
+ * and writes each to the target at its own level, tagged as the recorder's, after a line
+ * saying how many follow. A dump caused by logging an error leaves out that error when the
+ * dump goes to the logger that just wrote it.
+ * <p>
+ * Arguments are held by reference until dumped; {@link LazyArg}s are computed at the dump.
+ * An event overwritten before it is dumped is skipped.
+ */
+/* package */ final class FlightRecorder {
+//Understands what happened just before things went wrong
+
+    /* package */ static final FlightRecorder NONE = new FlightRecorder();
+    /* package */ static final String DUMP_FORMAT = "Flight recorder: last %d events";
+    /* package */ static final String UNCAUGHT_FORMAT = "Uncaught exception on %s: %s";
+    /**
+     * What {@link #record} returns when it kept nothing.
+     */
+    /* package */ static final long NOT_RECORDED = -1;
+
+    private static final CallSite DUMP_SITE = CallSite.of(FlightRecorder.class.getName(), "dump");
+    private static final long WRITING = -1;
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] millis;
+    private final byte[] levels;
+    private final String[] msgFormats;
+    private final Object[][] args;
+    private final String[] threadNames;
+    private final AtomicLong next = new AtomicLong();
+    private final Logger target;
+    private long dumpedUpTo;
+    private volatile boolean readFence;
+
+    private FlightRecorder() {
+        this.mask = -1;
+        this.sequences = null;
+        this.millis = null;
+        this.levels = null;
+        this.msgFormats = null;
+        this.args = null;
+        this.threadNames = null;
+        this.target = null;
+    }
+
+    /**
+     * @param capacity how many events to keep; rounded up to a power of two
+     * @param target   where dumps are written, or null for FyzLog's active logger
+     */
+    /* package */ FlightRecorder(final int capacity, final Logger target) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("FlightRecorder needs a capacity of at least 1");
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int slot = 0; slot < size; slot++) {
+            sequences.set(slot, WRITING);
+        }
+        this.millis = new long[size];
+        this.levels = new byte[size];
+        this.msgFormats = new String[size];
+        this.args = new Object[size][];
+        this.threadNames = new String[size];
+        this.target = target;
+    }
+
+    /* package */ boolean isRecording() {
+        return sequences != null;
+    }
+
+    /**
+     * @return the event's sequence, to pass to {@link #dump(Logger, LogLevel, long)}, or {@link #NOT_RECORDED}
+     */
+    /* package */ long record(final LogLevel level, final String msgFormat, final Object[] args) {
+        if (sequences == null || msgFormat == null) {
+            return NOT_RECORDED;
+        }
+        final long sequence = next.getAndIncrement();
+        final int slot = (int) sequence & mask;
+        sequences.set(slot, WRITING);
+        millis[slot] = System.currentTimeMillis();
+        levels[slot] = (byte) level.level();
+        msgFormats[slot] = msgFormat;
+        this.args[slot] = args;
+        threadNames[slot] = Thread.currentThread().getName();
+        sequences.lazySet(slot, sequence);
+        return sequence;
+    }
+
+    /**
+     * Writes the events recorded since the last dump to the target, or {@code active} if there is none.
+     */
+    /* package */ void dump(final Logger active, final LogLevel logLevel) {
+        dump(active, logLevel, NOT_RECORDED);
+    }
+
+    /**
+     * As {@link #dump(Logger, LogLevel)}, leaving out the event {@code written} if the dump goes
+     * to {@code active}, which has already written it.
+     */
+    /* package */ synchronized void dump(final Logger active, final LogLevel logLevel, final long written) {
+        if (sequences == null) {
+            return;
+        }
+        final Logger out = target != null ? target : active;
+        final long end = next.get();
+        final long start = Math.max(dumpedUpTo, end - (mask + 1));
+        dumpedUpTo = end;
+        final long skip = target != null ? NOT_RECORDED : written;
+        final long count = end - start - (skip >= start && skip < end ? 1 : 0);
+        if (count <= 0) {
+            return;
+        }
+
+        out.write(LogLevel.ASSERT, logLevel, DUMP_SITE, Thread.currentThread().getName(), DUMP_FORMAT, new Object[]{count});
+        final StringBuilder message = new StringBuilder();
+        for (long sequence = start; sequence < end; sequence++) {
+            final int slot = (int) sequence & mask;
+            if (sequence == skip || sequences.get(slot) != sequence) {
+                continue;
+            }
+            final long eventMillis = millis[slot];
+            final byte level = levels[slot];
+            final String msgFormat = msgFormats[slot];
+            final Object[] eventArgs = args[slot];
+            final String threadName = threadNames[slot];
+            //Keeps the reads above from moving past the check below
+            readFence = true;
+            if (sequences.get(slot) != sequence) {
+                continue;
+            }
+
+            message.setLength(0);
+            Timestamp.appendTo(message, eventMillis);
+            message.append(' ');
+            MessageTemplate.formatTo(message, msgFormat, Logger.resolveLazyArgs(eventArgs));
+            out.write(LogLevel.of(level), logLevel, DUMP_SITE, threadName, "%s", new Object[]{message.toString()});
+        }
+    }
+
+    /**
+     * Logs uncaught exceptions as errors, with their stack trace, which dumps the recorder,
+     * then passes them on to the handler that was installed before.
+     */
+    /* package */ static void dumpOnUncaughtException() {
+        final Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(final Thread thread, final Throwable throwable) {
+                try {
+                    FyzLog.e(UNCAUGHT_FORMAT, thread.getName(), stackTrace(throwable));
+                } catch (final RuntimeException ignored) {
+                    //The crash matters more than the dump
+                }
+                if (previous != null) {
+                    previous.uncaughtException(thread, throwable);
+                } else {
+                    //What the thread's group would have done without a default handler
+                    System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+                    throwable.printStackTrace(System.err);
+                }
+            }
+        });
+    }
+
+    private static LazyArg stackTrace(final Throwable throwable) {
+        return new LazyArg() {
+            @Override
+            public Object get() {
+                final StringWriter trace = new StringWriter();
+                final PrintWriter out = new PrintWriter(trace);
+                throwable.printStackTrace(out);
+                out.flush();
+                return trace.toString().trim();
+            }
+        };
+    }
+}
@@ -17,26 +17,239 @@ import android.util.Log;
  * <p>
  * Most importantly, it allows control of the logging for
  * unit testing purposes.
+ * <p>
+ * The fixed-arity overloads do not box or allocate unless the level is logged, or a
+ * {@link FlightRecorder} is recording; a message it alone wants is recorded without
+ * reaching the {@link Logger}.
+ * {@code char}, {@code byte} and {@code short} have overloads of their own, so they keep their
+ * type ({@code %s} of a char prints the character, {@code %x} of a byte two digits). Mixed with
+ * an {@code int} or with each other they widen; box them if the format depends on their type.
+ * An {@code int} alongside a {@code long} stays an {@code int}.
+ * <p>
+ * Any argument may be a {@link LazyArg}; it is only computed once the message is going to be written.
+ * <p>
+ * {@link #atDebug()} and its siblings log named fields rather than a formatted message.
  */
 public final class FyzLog {
 //Understands handling a user request to log
 
-    private static Logger ActiveLogger = Logger.AndroidLog;
-    private static LogLevel logLevel = LogLevel.VERBOSE;
+    private static volatile LogConfig config = LogConfig.DEFAULT;
+
+    /* package */
+    static LogConfig config() {
+        return config;
+    }
+
+    /**
+     * Replaces every setting at once; log requests see all of {@code config} or none of it.
+     */
+    /* package */
+    static synchronized void updateConfig(final LogConfig config) {
+        FyzLog.config = config;
+    }
+
+    /* package */
+    static synchronized void writeToSystem() {
+        config = config.withLogger(Logger.SystemOut);
+    }
+
+    /* package */
+    static synchronized void writeToLog() {
+        config = config.withLogger(Logger.AndroidLog);
+    }
+
+    /* package */
+    static synchronized void writeTo(final Logger logger) {
+        config = config.withLogger(logger);
+    }
+
+    /* package */
+    static synchronized void updateCurrentLogLevel(final LogLevel logLevel) {
+        config = config.withLogLevel(logLevel);
+    }
+
+    /* package */
+    static synchronized void updateLogLevelOverride(final String name, final LogLevel logLevel) {
+        config = config.withOverrides(config.overrides().with(name, logLevel));
+    }
+
+    /* package */
+    static synchronized void removeLogLevelOverride(final String name) {
+        config = config.withOverrides(config.overrides().without(name));
+    }
+
+    /* package */
+    static synchronized void clearLogLevelOverrides() {
+        config = config.withOverrides(LevelOverrides.NONE);
+    }
+
+    /* package */
+    static synchronized void updateThrottle(final Throttle throttle) {
+        config = config.withThrottle(throttle);
+    }
+
+    /* package */
+    static synchronized void updateCoalescing(final Coalescing coalescing) {
+        config = config.withCoalescing(coalescing);
+    }
+
+    /* package */
+    static synchronized void updateFlightRecorder(final FlightRecorder flightRecorder) {
+        config = config.withFlightRecorder(flightRecorder);
+    }
 
     /* package */
-    static void writeToSystem() {
-        ActiveLogger = Logger.SystemOut;
+    static void dumpFlightRecorder() {
+        final LogConfig config = FyzLog.config;
+        config.flightRecorder().dump(config.logger(), config.logLevel());
     }
 
     /* package */
-    static void writeToLog() {
-        ActiveLogger = Logger.AndroidLog;
+    static synchronized void updateCallerMode(final CallerMode callerMode) {
+        config = config.withCallerMode(callerMode);
     }
 
     /* package */
-    static void updateCurrentLogLevel(final LogLevel logLevel) {
-        FyzLog.logLevel = logLevel;
+    static boolean isLoggable(final LogLevel level) {
+        return config.isLoggable(level);
+    }
+
+    /**
+     * Names the class and method making the next log call on this thread with {@code msgFormat},
+     * so it doesn't need finding from the stack.
+     * <p>
+     * Added before each log call by the build's log stripping when {@code injectCallers} is on;
+     * there is no need to call it directly. A name the next log call doesn't use, because it was
+     * filtered or its caller wasn't wanted, is forgotten.
+     */
+    public static void caller(final String className, final String methodName, final String msgFormat) {
+        CallSite.hint(className, methodName, msgFormat);
+    }
+
+    /**
+     * Whether {@link Log#VERBOSE} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#VERBOSE} messages are logged
+     */
+    public static boolean isVerboseLoggable() {
+        return isLoggable(LogLevel.VERBOSE);
+    }
+
+    /**
+     * Whether {@link Log#DEBUG} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#DEBUG} messages are logged
+     */
+    public static boolean isDebugLoggable() {
+        return isLoggable(LogLevel.DEBUG);
+    }
+
+    /**
+     * Whether {@link Log#INFO} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#INFO} messages are logged
+     */
+    public static boolean isInfoLoggable() {
+        return isLoggable(LogLevel.INFO);
+    }
+
+    /**
+     * Whether {@link Log#WARN} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#WARN} messages are logged
+     */
+    public static boolean isWarnLoggable() {
+        return isLoggable(LogLevel.WARN);
+    }
+
+    /**
+     * Whether {@link Log#ERROR} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#ERROR} messages are logged
+     */
+    public static boolean isErrorLoggable() {
+        return isLoggable(LogLevel.ERROR);
+    }
+
+    /**
+     * Whether {@link Log#ASSERT} level logging will be written
+     * <p>
+     * Guard building expensive arguments with this.
+     * While per-class overrides are set, this is true if any class logs at this level.
+     *
+     * @return true if {@link Log#ASSERT} messages are logged
+     */
+    public static boolean isWtfLoggable() {
+        return isLoggable(LogLevel.ASSERT);
+    }
+
+    /**
+     * Starts a {@link Log#VERBOSE} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#VERBOSE} isn't logged
+     */
+    public static LogEvent atVerbose() {
+        return LogEvent.start(config, LogLevel.VERBOSE);
+    }
+
+    /**
+     * Starts a {@link Log#DEBUG} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#DEBUG} isn't logged
+     */
+    public static LogEvent atDebug() {
+        return LogEvent.start(config, LogLevel.DEBUG);
+    }
+
+    /**
+     * Starts a {@link Log#INFO} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#INFO} isn't logged
+     */
+    public static LogEvent atInfo() {
+        return LogEvent.start(config, LogLevel.INFO);
+    }
+
+    /**
+     * Starts a {@link Log#WARN} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#WARN} isn't logged
+     */
+    public static LogEvent atWarn() {
+        return LogEvent.start(config, LogLevel.WARN);
+    }
+
+    /**
+     * Starts a {@link Log#ERROR} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#ERROR} isn't logged
+     */
+    public static LogEvent atError() {
+        return LogEvent.start(config, LogLevel.ERROR);
+    }
+
+    /**
+     * Starts a {@link Log#ASSERT} level message with named fields; see {@link LogEvent}.
+     *
+     * @return the event to add fields to, which does nothing if {@link Log#ASSERT} isn't logged
+     */
+    public static LogEvent atWtf() {
+        return LogEvent.start(config, LogLevel.ASSERT);
     }
 
 
@@ -56,101 +269,2131 @@ public final class FyzLog {
      * @param args      the args to format in
      */
     public static void v(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.VERBOSE, logLevel, msgFormat, args);
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, args);
+        }
     }
 
     /**
-     * The {@link Log#DEBUG} level logging
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
-     * @param msg The message to log
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
      */
-    public static void d(@NonNull final String msg) {
-        d(msg, (Object[]) null);
+    public static void v(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
     }
 
     /**
-     * The {@link Log#DEBUG} level logging with string formatting
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
      * @param msgFormat the format string
-     * @param args      the args to format in
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
      */
-    public static void d(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.DEBUG, logLevel, msgFormat, args);
+    public static void v(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
     }
 
     /**
-     * The {@link Log#INFO} level logging
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
-     * @param msg The message to log
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
      */
-    public static void i(@NonNull final String msg) {
-        i(msg, (Object[]) null);
+    public static void v(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
     }
 
     /**
-     * The {@link Log#INFO} level logging with string formatting
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
      * @param msgFormat the format string
-     * @param args      the args to format in
+     * @param arg       the arg to format in
      */
-    public static void i(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.INFO, logLevel, msgFormat, args);
+    public static void v(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
     }
 
     /**
-     * The {@link Log#WARN} level logging
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
-     * @param msg The message to log
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
      */
-    public static void w(@NonNull final String msg) {
-        w(msg, (Object[]) null);
+    public static void v(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
     }
 
     /**
-     * The {@link Log#WARN} level logging with string formatting
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
      * @param msgFormat the format string
-     * @param args      the args to format in
+     * @param arg       the arg to format in
      */
-    public static void w(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.WARN, logLevel, msgFormat, args);
+    public static void v(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
     }
 
     /**
-     * The {@link Log#ERROR} level logging
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
-     * @param msg The message to log
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
      */
-    public static void e(@NonNull final String msg) {
-        e(msg, (Object[]) null);
+    public static void v(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
     }
 
     /**
-     * The {@link Log#ERROR} level logging with string formatting
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
      *
      * @param msgFormat the format string
-     * @param args      the args to format in
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
      */
-    public static void e(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.ERROR, logLevel, msgFormat, args);
+    public static void v(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
     }
 
     /**
-     * The {@link Log#ASSERT} level logging
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#VERBOSE} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#VERBOSE} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void v(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.VERBOSE)) {
+            log(config, LogLevel.VERBOSE, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging
      *
      * @param msg The message to log
      */
-    public static void wtf(@NonNull final String msg) {
-        wtf(msg, (Object[]) null);
+    public static void d(@NonNull final String msg) {
+        d(msg, (Object[]) null);
     }
 
     /**
-     * The {@link Log#ASSERT} level logging with string formatting
+     * The {@link Log#DEBUG} level logging with string formatting
      *
      * @param msgFormat the format string
      * @param args      the args to format in
      */
-    public static void wtf(@NonNull final String msgFormat, final Object... args) {
-        ActiveLogger.log(LogLevel.ASSERT, logLevel, msgFormat, args);
+    public static void d(@NonNull final String msgFormat, final Object... args) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, args);
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#DEBUG} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#DEBUG} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void d(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.DEBUG)) {
+            log(config, LogLevel.DEBUG, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging
+     *
+     * @param msg The message to log
+     */
+    public static void i(@NonNull final String msg) {
+        i(msg, (Object[]) null);
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     *
+     * @param msgFormat the format string
+     * @param args      the args to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object... args) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, args);
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#INFO} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#INFO} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void i(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.INFO)) {
+            log(config, LogLevel.INFO, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging
+     *
+     * @param msg The message to log
+     */
+    public static void w(@NonNull final String msg) {
+        w(msg, (Object[]) null);
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     *
+     * @param msgFormat the format string
+     * @param args      the args to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object... args) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, args);
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#WARN} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#WARN} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void w(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.WARN)) {
+            log(config, LogLevel.WARN, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging
+     *
+     * @param msg The message to log
+     */
+    public static void e(@NonNull final String msg) {
+        e(msg, (Object[]) null);
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     *
+     * @param msgFormat the format string
+     * @param args      the args to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object... args) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, args);
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ERROR} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ERROR} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void e(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ERROR)) {
+            log(config, LogLevel.ERROR, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging
+     *
+     * @param msg The message to log
+     */
+    public static void wtf(@NonNull final String msg) {
+        wtf(msg, (Object[]) null);
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     *
+     * @param msgFormat the format string
+     * @param args      the args to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object... args) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, args);
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final Object arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     * @param arg3      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final Object arg2, final Object arg3) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final int arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final long arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final boolean arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final int arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final long arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final int arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final long arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final int arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final long arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final char arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final byte arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg       the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final short arg) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final char arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final byte arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final short arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final char arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final byte arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * The {@link Log#ASSERT} level logging with string formatting
+     * <p>
+     * Nothing is boxed or allocated unless {@link Log#ASSERT} is logged.
+     *
+     * @param msgFormat the format string
+     * @param arg1      the arg to format in
+     * @param arg2      the arg to format in
+     */
+    public static void wtf(@NonNull final String msgFormat, final Object arg1, final short arg2) {
+        final LogConfig config = FyzLog.config;
+        if (config.shouldLog(LogLevel.ASSERT)) {
+            log(config, LogLevel.ASSERT, msgFormat, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * Records the message, then logs it unless it was only wanted for the {@link FlightRecorder}.
+     */
+    private static void log(final LogConfig config, final LogLevel level, final String msgFormat, final Object[] args) {
+        final long recorded = config.flightRecorder().record(level, msgFormat, args);
+        final boolean loggable = config.isLoggable(level);
+        if (loggable) {
+            config.logger().log(level, config, msgFormat, args);
+        } else {
+            CallSite.forgetHint();
+        }
+        if (level == LogLevel.ERROR || level == LogLevel.ASSERT) {
+            config.flightRecorder().dump(config.logger(), config.logLevel(), loggable ? recorded : FlightRecorder.NOT_RECORDED);
+        }
+    }
+
+    /* package */
+    static void logEvent(final LogConfig config, final LogLevel level, final String message, final LogEvent event) {
+        final long recorded = config.flightRecorder().isRecording()
+                ? config.flightRecorder().record(level, event.template(message), event.values())
+                : FlightRecorder.NOT_RECORDED;
+        final boolean loggable = config.isLoggable(level);
+        if (loggable) {
+            config.logger().logEvent(level, config, message, event);
+        } else {
+            CallSite.forgetHint();
+        }
+        if (level == LogLevel.ERROR || level == LogLevel.ASSERT) {
+            config.flightRecorder().dump(config.logger(), config.logLevel(), loggable ? recorded : FlightRecorder.NOT_RECORDED);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * A log argument that is expensive to compute.
+ * <p>
+ * {@link #get()} is called on the logging thread, and only once the level, per-class overrides
+ * and throttling have let the message through; a message that isn't written never computes it.
+ * Implement it with an anonymous class, or a lambda where the app's toolchain allows.
+ * A constant instance, or a lambda that captures nothing, costs nothing per call.
+ */
+public interface LazyArg {
+//Understands putting off work a log message may never need
+
+    /**
+     * @return the value to format in place of this argument
+     */
+    Object get();
+}
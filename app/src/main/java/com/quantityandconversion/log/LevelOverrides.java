@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Log levels for particular classes and packages, replacing the current level for them.
+ * <p>
+ * Instances are immutable; changing an override creates a new instance, and each
+ * {@link CallSite} re-resolves its level the first time it sees a new instance.
+ * For a class name the most specific override wins, checked in the order: the full
+ * class name, the simple class name the tag is made from, each enclosing class,
+ * then each enclosing package.
+ */
+/* package */ final class LevelOverrides {
+//Understands which classes log at a level of their own
+
+    /* package */ static final LevelOverrides NONE = new LevelOverrides(new HashMap<String, LogLevel>());
+
+    private final HashMap<String, LogLevel> levels;
+    private final LogLevel lowest;
+    private final LogLevel highest;
+
+    private LevelOverrides(final HashMap<String, LogLevel> levels) {
+        this.levels = levels;
+        LogLevel lowest = null;
+        LogLevel highest = null;
+        for (final LogLevel level : levels.values()) {
+            if (lowest == null || lowest.logAt(level)) {
+                lowest = level;
+            }
+            if (highest == null || level.logAt(highest)) {
+                highest = level;
+            }
+        }
+        this.lowest = lowest;
+        this.highest = highest;
+    }
+
+    /**
+     * @param name a class name, simple class name or package name
+     */
+    /* package */ LevelOverrides with(final String name, final LogLevel level) {
+        final HashMap<String, LogLevel> levels = new HashMap<>(this.levels);
+        levels.put(name, level);
+        return new LevelOverrides(levels);
+    }
+
+    /* package */ LevelOverrides without(final String name) {
+        if (!levels.containsKey(name)) {
+            return this;
+        }
+        final HashMap<String, LogLevel> levels = new HashMap<>(this.levels);
+        levels.remove(name);
+        return levels.isEmpty() ? NONE : new LevelOverrides(levels);
+    }
+
+    /* package */ boolean isEmpty() {
+        return levels.isEmpty();
+    }
+
+    /* package */ Map<String, LogLevel> levels() {
+        return new HashMap<>(levels);
+    }
+
+    /**
+     * @return the lowest level anything could log at, for rejecting a message before finding its caller
+     */
+    /* package */ LogLevel lowest(final LogLevel logLevel) {
+        return lowest == null || lowest.logAt(logLevel) ? logLevel : lowest;
+    }
+
+    /**
+     * @return the highest level anything logs at; a message at or above it is logged wherever it is from,
+     * so its caller isn't needed to decide
+     */
+    /* package */ LogLevel highest(final LogLevel logLevel) {
+        return highest == null || logLevel.logAt(highest) ? logLevel : highest;
+    }
+
+    /**
+     * @return the override for {@code className}, or null if there isn't one
+     */
+    /* package */ LogLevel lookup(final String className) {
+        final LogLevel exact = levels.get(className);
+        if (exact != null) {
+            return exact;
+        }
+        final LogLevel simple = levels.get(className.substring(className.lastIndexOf('.') + 1));
+        if (simple != null) {
+            return simple;
+        }
+        String name = className;
+        int cut;
+        while ((cut = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'))) > 0) {
+            name = name.substring(0, cut);
+            final LogLevel enclosing = levels.get(name);
+            if (enclosing != null) {
+                return enclosing;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * A per-thread {@link StringBuilder} for assembling log lines.
+ * <p>
+ * Formatting an argument can itself log; while a thread's builder is in use
+ * a fresh one is handed out instead.
+ */
+/* package */ final class LineBuffer {
+//Understands reusing a builder per thread
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<LineBuffer> buffers = new ThreadLocal<LineBuffer>() {
+        @Override
+        protected LineBuffer initialValue() {
+            return new LineBuffer();
+        }
+    };
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+    private boolean inUse;
+
+    private LineBuffer() {
+    }
+
+    /* package */ static StringBuilder acquire() {
+        final LineBuffer buffer = buffers.get();
+        if (buffer.inUse) {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+        buffer.inUse = true;
+        return buffer.builder;
+    }
+
+    /* package */ static void release(final StringBuilder builder) {
+        final LineBuffer buffer = buffers.get();
+        if (buffer.builder != builder) {
+            return;
+        }
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.builder = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            builder.setLength(0);
+        }
+        buffer.inUse = false;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzips the segments a {@link RollingFile} has finished with, on a low priority background thread.
+ * <p>
+ * Each segment is streamed through one reused {@link Deflater} and buffer pair, so neither the
+ * segment nor its archive is ever held in memory, then deleted. The work is paced so it stays
+ * under a share of one core and a number of bytes read per second. The oldest archives are
+ * deleted to stay within the archive size limit.
+ * <p>
+ * A small text index in the directory records the time each archive covers, so the ones for
+ * a period can be found without opening them.
+ */
+/* package */ final class LogArchiver {
+//Understands keeping old log output small
+
+    /* package */ static final String ARCHIVE_SUFFIX = ".gz";
+    /* package */ static final String INDEX_NAME = "fyzlog-archives.idx";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int CHUNK_BYTES = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MIN_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final File directory;
+    private final long maxArchiveBytes;
+    private final long maxBytesPerSecond;
+    private final double maxBusyFraction;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] input = new byte[CHUNK_BYTES];
+    private final byte[] output = new byte[CHUNK_BYTES];
+    private final List<Archive> archives = new ArrayList<>();
+    private final ConcurrentLinkedQueue<File> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong done = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long owedNanos;
+
+    /**
+     * @param level             a {@link Deflater} level; {@link Deflater#BEST_SPEED} costs the least CPU
+     * @param maxArchiveBytes   the oldest archives are deleted past this total
+     * @param maxBytesPerSecond how fast segments are read; zero or less for no limit
+     * @param maxBusyFraction   the share of one core compressing may take, above 0 and at most 1
+     */
+    /* package */ LogArchiver(final File directory, final int level, final long maxArchiveBytes, final long maxBytesPerSecond, final double maxBusyFraction) {
+        if (maxBusyFraction <= 0 || maxBusyFraction > 1) {
+            throw new IllegalArgumentException("LogArchiver needs 0 < maxBusyFraction <= 1");
+        }
+        this.directory = directory;
+        this.maxArchiveBytes = maxArchiveBytes;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.maxBusyFraction = maxBusyFraction;
+        this.deflater = new Deflater(level, true);
+        readIndex();
+        this.worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "FyzLog-archive");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        worker.start();
+    }
+
+    /**
+     * Queues a finished segment to be compressed and deleted. A segment deleted before its
+     * turn is skipped.
+     */
+    /* package */ void archive(final File segment) {
+        queued.incrementAndGet();
+        pending.offer(segment);
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Blocks until every segment queued before this call has been archived or skipped.
+     */
+    /* package */ void flush() {
+        final long target = queued.get();
+        while (done.get() < target && worker.isAlive()) {
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Archives what is queued, then stops the worker.
+     */
+    /* package */ void shutdown() throws InterruptedException {
+        flush();
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join();
+        deflater.end();
+    }
+
+    /* package */ long failures() {
+        return failures.get();
+    }
+
+    /**
+     * @return the archives, oldest first
+     */
+    /* package */ synchronized List<Archive> archives() {
+        return new ArrayList<>(archives);
+    }
+
+    /**
+     * @return the archives holding anything logged from {@code fromMillis} to {@code toMillis}, oldest first
+     */
+    /* package */ synchronized List<Archive> archivesBetween(final long fromMillis, final long toMillis) {
+        final List<Archive> found = new ArrayList<>();
+        for (final Archive archive : archives) {
+            if (archive.lastMillis >= fromMillis && archive.firstMillis <= toMillis) {
+                found.add(archive);
+            }
+        }
+        return found;
+    }
+
+    private void work() {
+        while (running || !pending.isEmpty()) {
+            final File segment = pending.poll();
+            if (segment == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                compress(segment);
+            } catch (final IOException e) {
+                failures.incrementAndGet();
+            } finally {
+                done.incrementAndGet();
+            }
+        }
+    }
+
+    private void compress(final File segment) throws IOException {
+        if (!segment.isFile()) {
+            return;
+        }
+        final long lastMillis = segment.lastModified();
+        final long firstMillis = Math.min(startOf(segment, lastMillis), lastMillis);
+        final File archive = new File(directory, segment.getName() + ARCHIVE_SUFFIX);
+        final File temp = new File(directory, archive.getName() + TEMP_SUFFIX);
+
+        final InputStream in = new FileInputStream(segment);
+        final long compressedBytes;
+        final long bytes;
+        try {
+            final OutputStream out = new FileOutputStream(temp);
+            try {
+                deflater.reset();
+                crc.reset();
+                out.write(GZIP_HEADER);
+                long read = 0;
+                long written = GZIP_HEADER.length;
+                int chunk;
+                while ((chunk = in.read(input)) != -1) {
+                    final long started = System.nanoTime();
+                    crc.update(input, 0, chunk);
+                    deflater.setInput(input, 0, chunk);
+                    while (!deflater.needsInput()) {
+                        written += deflateTo(out);
+                    }
+                    read += chunk;
+                    pace(System.nanoTime() - started, chunk);
+                }
+                deflater.finish();
+                while (!deflater.finished()) {
+                    written += deflateTo(out);
+                }
+                writeIntLittleEndian(out, (int) crc.getValue());
+                writeIntLittleEndian(out, (int) read);
+                bytes = read;
+                compressedBytes = written + 8;
+            } finally {
+                out.close();
+            }
+        } catch (final IOException e) {
+            //Partially written; the segment is kept
+            temp.delete();
+            throw e;
+        } finally {
+            in.close();
+        }
+
+        if (!temp.renameTo(archive)) {
+            temp.delete();
+            throw new IOException("Unable to rename " + temp);
+        }
+        segment.delete();
+        synchronized (this) {
+            archives.add(new Archive(archive, firstMillis, lastMillis, bytes, compressedBytes));
+            enforceArchiveSize();
+            writeIndex();
+        }
+    }
+
+    private int deflateTo(final OutputStream out) throws IOException {
+        final int deflated = deflater.deflate(output, 0, output.length);
+        out.write(output, 0, deflated);
+        return deflated;
+    }
+
+    /**
+     * Sleeps off the time that keeps the work within both budgets, once it adds up.
+     */
+    private void pace(final long busyNanos, final int bytes) {
+        final long cpuNanos = (long) (busyNanos * (1 - maxBusyFraction) / maxBusyFraction);
+        final long ioNanos = maxBytesPerSecond <= 0 ? 0 : bytes * TimeUnit.SECONDS.toNanos(1) / maxBytesPerSecond - busyNanos;
+        owedNanos += Math.max(cpuNanos, ioNanos);
+        if (owedNanos < MIN_PAUSE_NANOS) {
+            return;
+        }
+        final long deadline = System.nanoTime() + owedNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+        owedNanos = 0;
+    }
+
+    /**
+     * When the segment was opened, from its name, or {@code fallback} if the name isn't a segment's.
+     */
+    private static long startOf(final File segment, final long fallback) {
+        final String name = segment.getName();
+        if (!name.startsWith(RollingFile.SEGMENT_PREFIX) || !name.endsWith(RollingFile.SEGMENT_SUFFIX)) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(name.substring(RollingFile.SEGMENT_PREFIX.length(), name.length() - RollingFile.SEGMENT_SUFFIX.length()));
+        } catch (final NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static void writeIntLittleEndian(final OutputStream out, final int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private void enforceArchiveSize() {
+        long total = 0;
+        for (final Archive archive : archives) {
+            total += archive.compressedBytes;
+        }
+        while (total > maxArchiveBytes && archives.size() > 1) {
+            final Archive oldest = archives.remove(0);
+            oldest.file.delete();
+            total -= oldest.compressedBytes;
+        }
+    }
+
+    /**
+     * Index lines read "name firstMillis lastMillis bytes compressedBytes".
+     */
+    private void writeIndex() throws IOException {
+        final File temp = new File(directory, INDEX_NAME + TEMP_SUFFIX);
+        final Writer out = new FileWriter(temp);
+        try {
+            for (final Archive archive : archives) {
+                out.write(archive.file.getName() + ' ' + archive.firstMillis + ' ' + archive.lastMillis + ' '
+                        + archive.bytes + ' ' + archive.compressedBytes + '\n');
+            }
+        } finally {
+            out.close();
+        }
+        if (!temp.renameTo(new File(directory, INDEX_NAME))) {
+            temp.delete();
+            throw new IOException("Unable to rename " + temp);
+        }
+    }
+
+    /**
+     * Keeps the entries whose archives are still there; an unreadable index starts empty.
+     */
+    private void readIndex() {
+        final File index = new File(directory, INDEX_NAME);
+        if (!index.isFile()) {
+            return;
+        }
+        try {
+            final BufferedReader in = new BufferedReader(new FileReader(index));
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    final String[] fields = line.split(" ");
+                    final File file = new File(directory, fields[0]);
+                    if (fields.length == 5 && file.isFile()) {
+                        archives.add(new Archive(file, Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                                Long.parseLong(fields[3]), Long.parseLong(fields[4])));
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        } catch (final IOException | NumberFormatException e) {
+            failures.incrementAndGet();
+            archives.clear();
+        }
+        Collections.sort(archives);
+    }
+
+    /* package */ static final class Archive implements Comparable<Archive> {
+        /* package */ final File file;
+        /* package */ final long firstMillis;
+        /* package */ final long lastMillis;
+        /* package */ final long bytes;
+        /* package */ final long compressedBytes;
+
+        private Archive(final File file, final long firstMillis, final long lastMillis, final long bytes, final long compressedBytes) {
+            this.file = file;
+            this.firstMillis = firstMillis;
+            this.lastMillis = lastMillis;
+            this.bytes = bytes;
+            this.compressedBytes = compressedBytes;
+        }
+
+        @Override
+        public int compareTo(final Archive other) {
+            return firstMillis < other.firstMillis ? -1 : firstMillis == other.firstMillis ? 0 : 1;
+        }
+    }
+}
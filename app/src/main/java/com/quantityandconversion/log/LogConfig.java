@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Everything FyzLog needs to handle a log request, as one immutable snapshot.
+ * <p>
+ * FyzLog publishes the current snapshot through a single volatile field and reads it
+ * once per request, so a request never sees half of a change. Changing a setting
+ * creates a new snapshot.
+ */
+/* package */ final class LogConfig {
+//Understands how logging is set up at one moment
+
+    /* package */ static final LogConfig DEFAULT = new LogConfig(Logger.AndroidLog, LogLevel.VERBOSE, CallerMode.ALWAYS,
+            LevelOverrides.NONE, Throttle.NONE, Coalescing.NONE, FlightRecorder.NONE);
+
+    private final Logger logger;
+    private final LogLevel logLevel;
+    private final CallerMode callerMode;
+    private final LevelOverrides overrides;
+    private final Throttle throttle;
+    private final Coalescing coalescing;
+    private final FlightRecorder flightRecorder;
+
+    private LogConfig(final Logger logger, final LogLevel logLevel, final CallerMode callerMode,
+                      final LevelOverrides overrides, final Throttle throttle, final Coalescing coalescing,
+                      final FlightRecorder flightRecorder) {
+        this.logger = logger;
+        this.logLevel = logLevel;
+        this.callerMode = callerMode;
+        this.overrides = overrides;
+        this.throttle = throttle;
+        this.coalescing = coalescing;
+        this.flightRecorder = flightRecorder;
+    }
+
+    /* package */ LogConfig withLogger(final Logger logger) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withLogLevel(final LogLevel logLevel) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withCallerMode(final CallerMode callerMode) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withOverrides(final LevelOverrides overrides) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withThrottle(final Throttle throttle) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withCoalescing(final Coalescing coalescing) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ LogConfig withFlightRecorder(final FlightRecorder flightRecorder) {
+        return new LogConfig(logger, logLevel, callerMode, overrides, throttle, coalescing, flightRecorder);
+    }
+
+    /* package */ Logger logger() {
+        return logger;
+    }
+
+    /* package */ LogLevel logLevel() {
+        return logLevel;
+    }
+
+    /* package */ CallerMode callerMode() {
+        return callerMode;
+    }
+
+    /* package */ LevelOverrides overrides() {
+        return overrides;
+    }
+
+    /* package */ Throttle throttle() {
+        return throttle;
+    }
+
+    /* package */ Coalescing coalescing() {
+        return coalescing;
+    }
+
+    /* package */ FlightRecorder flightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * Whether anything at {@code level} could be written; while per-class overrides are set,
+     * true if any class logs at this level.
+     */
+    /* package */ boolean isLoggable(final LogLevel level) {
+        return logger.isLoggable(level, overrides.lowest(logLevel));
+    }
+
+    /**
+     * {@link #isLoggable(LogLevel)} for a message, counting it in the logger's metrics if it is filtered.
+     * <p>
+     * While a {@link FlightRecorder} is recording a filtered message is still wanted, only to be
+     * recorded; check {@link #isLoggable(LogLevel)} again before handing it to the logger.
+     */
+    /* package */ boolean shouldLog(final LogLevel level) {
+        if (isLoggable(level)) {
+            return true;
+        }
+        logger.metrics().filtered(level);
+        CallSite.forgetHint();
+        return flightRecorder.isRecording();
+    }
+}
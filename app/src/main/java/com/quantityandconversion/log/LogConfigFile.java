@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Takes FyzLog's settings from a properties file, and takes them again whenever it changes.
+ * <pre>
+ * level=DEBUG
+ * callerMode=WARN_AND_ABOVE
+ * sink=AndroidLog
+ * level.com.example.sync=VERBOSE
+ * sample.DEBUG=10
+ * limit.INFO=5,20
+ * summaryMillis=10000
+ * coalesceMillis=5000
+ * </pre>
+ * Levels are VERBOSE, DEBUG, INFO, WARN, ERROR or ASSERT; {@code level.<name>} overrides the level
+ * for a class, simple class name or package; {@code sample} and {@code limit} (per second, burst)
+ * throttle each call site; {@code coalesceMillis} collapses repeated messages, holding the count
+ * for at most that long; {@code sink} is AndroidLog or SystemOut.
+ * <p>
+ * The file is applied on top of FyzLog's current settings, so changes made in code to anything
+ * the file doesn't name are kept. Each setting the file names is taken over, and put back as it
+ * was just before that once the file stops naming it or is deleted. Each change is parsed on the
+ * watching thread and published as one new {@link LogConfig}, so logging never waits on it.
+ * A file that can't be read or parsed is counted and leaves the current settings alone.
+ */
+/* package */ final class LogConfigFile {
+//Understands changing how FyzLog logs without rebuilding the app
+
+    private static final String LEVEL = "level";
+    private static final String LEVEL_PREFIX = "level.";
+    private static final String CALLER_MODE = "callerMode";
+    private static final String SINK = "sink";
+    private static final String SAMPLE_PREFIX = "sample.";
+    private static final String LIMIT_PREFIX = "limit.";
+    private static final String SUMMARY_MILLIS = "summaryMillis";
+    private static final String COALESCE_MILLIS = "coalesceMillis";
+
+    private static final Map<String, LogLevel> levels = new HashMap<>();
+    private static final Map<String, CallerMode> callerModes = new HashMap<>();
+    private static final Map<String, Logger> sinks = new HashMap<>();
+
+    static {
+        levels.put("VERBOSE", LogLevel.VERBOSE);
+        levels.put("DEBUG", LogLevel.DEBUG);
+        levels.put("INFO", LogLevel.INFO);
+        levels.put("WARN", LogLevel.WARN);
+        levels.put("ERROR", LogLevel.ERROR);
+        levels.put("ASSERT", LogLevel.ASSERT);
+        callerModes.put("ALWAYS", CallerMode.ALWAYS);
+        callerModes.put("WARN_AND_ABOVE", CallerMode.WARN_AND_ABOVE);
+        callerModes.put("NEVER", CallerMode.NEVER);
+        sinks.put("AndroidLog", Logger.AndroidLog);
+        sinks.put("SystemOut", Logger.SystemOut);
+    }
+
+    private final File file;
+    private final Map<String, LogConfig> originals = new HashMap<>();
+    private Timer timer;
+    private long lastModified = Long.MIN_VALUE;
+    private long lastLength = Long.MIN_VALUE;
+    private long failures;
+
+    /* package */ LogConfigFile(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Applies the file now, then checks it for changes every {@code pollMillis} on a background thread.
+     */
+    /* package */ synchronized void watch(final long pollMillis) {
+        if (timer != null) {
+            return;
+        }
+        reloadIfChanged();
+        timer = new Timer("FyzLog-config", true);
+        timer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                poll();
+            }
+        }, pollMillis, pollMillis);
+    }
+
+    private synchronized void poll() {
+        if (timer != null) {
+            reloadIfChanged();
+        }
+    }
+
+    /* package */ synchronized void stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    /**
+     * @return true if the file changed and its settings were published
+     */
+    /* package */ synchronized boolean reloadIfChanged() {
+        final long modified = file.lastModified();
+        final long length = file.length();
+        if (modified == lastModified && length == lastLength) {
+            return false;
+        }
+        lastModified = modified;
+        lastLength = length;
+
+        try {
+            final Properties properties = file.isFile() ? read(file) : new Properties();
+            //FyzLog's updates hold its class lock, so no change made in code is lost in between
+            synchronized (FyzLog.class) {
+                final LogConfig current = FyzLog.config();
+                final LogConfig applied = parse(properties, restore(current, properties));
+                for (final Iterator<String> owned = originals.keySet().iterator(); owned.hasNext(); ) {
+                    if (!properties.containsKey(owned.next())) {
+                        owned.remove();
+                    }
+                }
+                for (final String key : properties.stringPropertyNames()) {
+                    if (!originals.containsKey(key)) {
+                        originals.put(key, current);
+                    }
+                }
+                FyzLog.updateConfig(applied);
+            }
+            return true;
+        } catch (final IOException | IllegalArgumentException e) {
+            failures++;
+            return false;
+        }
+    }
+
+    /**
+     * {@code config} with each setting the file took over, and no longer names, put back as it was.
+     */
+    private LogConfig restore(final LogConfig config, final Properties properties) {
+        LogConfig restored = config;
+        for (final Map.Entry<String, LogConfig> owned : originals.entrySet()) {
+            if (!properties.containsKey(owned.getKey())) {
+                restored = restore(restored, owned.getKey(), owned.getValue());
+            }
+        }
+        return restored;
+    }
+
+    private static LogConfig restore(final LogConfig config, final String key, final LogConfig original) {
+        if (key.equals(LEVEL)) {
+            return config.withLogLevel(original.logLevel());
+        }
+        if (key.equals(CALLER_MODE)) {
+            return config.withCallerMode(original.callerMode());
+        }
+        if (key.equals(SINK)) {
+            return config.withLogger(original.logger());
+        }
+        if (key.equals(COALESCE_MILLIS)) {
+            return config.withCoalescing(original.coalescing());
+        }
+        if (key.equals(SUMMARY_MILLIS)) {
+            return config.withThrottle(config.throttle().withSummaryOf(original.throttle()));
+        }
+        if (key.startsWith(LEVEL_PREFIX)) {
+            final String name = key.substring(LEVEL_PREFIX.length());
+            final LogLevel level = original.overrides().levels().get(name);
+            return config.withOverrides(level == null ? config.overrides().without(name) : config.overrides().with(name, level));
+        }
+        final String prefix = key.startsWith(SAMPLE_PREFIX) ? SAMPLE_PREFIX : LIMIT_PREFIX;
+        final LogLevel level = lookup(levels, key, key.substring(prefix.length()).trim());
+        return config.withThrottle(config.throttle().withLimitOf(level, original.throttle()));
+    }
+
+    /**
+     * @return how many times the file couldn't be read or parsed
+     */
+    /* package */ synchronized long failures() {
+        return failures;
+    }
+
+    /**
+     * Applies the settings in {@code properties} on top of {@code base}.
+     *
+     * @throws IllegalArgumentException naming the first setting that isn't valid
+     */
+    /* package */ static LogConfig parse(final Properties properties, final LogConfig base) {
+        LogConfig config = base;
+        LevelOverrides overrides = base.overrides();
+        Throttle throttle = base.throttle();
+        for (final String key : properties.stringPropertyNames()) {
+            final String value = properties.getProperty(key).trim();
+            if (key.equals(LEVEL)) {
+                config = config.withLogLevel(lookup(levels, key, value));
+            } else if (key.equals(CALLER_MODE)) {
+                config = config.withCallerMode(lookup(callerModes, key, value));
+            } else if (key.equals(SINK)) {
+                config = config.withLogger(lookup(sinks, key, value));
+            } else if (key.startsWith(LEVEL_PREFIX)) {
+                overrides = overrides.with(key.substring(LEVEL_PREFIX.length()), lookup(levels, key, value));
+            } else if (key.startsWith(SAMPLE_PREFIX)) {
+                throttle = throttle.sample(lookup(levels, key, key.substring(SAMPLE_PREFIX.length()).trim()), parseInt(key, value));
+            } else if (key.startsWith(LIMIT_PREFIX)) {
+                final String[] rateAndBurst = value.split(",");
+                if (rateAndBurst.length != 2) {
+                    throw new IllegalArgumentException(key + " needs a rate and a burst, e.g. 5,20");
+                }
+                throttle = throttle.limit(lookup(levels, key, key.substring(LIMIT_PREFIX.length()).trim()),
+                        parseDouble(key, rateAndBurst[0]), parseInt(key, rateAndBurst[1]));
+            } else if (key.equals(COALESCE_MILLIS)) {
+                config = config.withCoalescing(Coalescing.holdingAtMost(parseInt(key, value)));
+            } else if (key.equals(SUMMARY_MILLIS)) {
+                throttle = throttle.summaryEvery(parseInt(key, value));
+            } else {
+                throw new IllegalArgumentException("Unknown setting " + key);
+            }
+        }
+        return config.withOverrides(overrides).withThrottle(throttle);
+    }
+
+    private static Properties read(final File file) throws IOException {
+        final Properties properties = new Properties();
+        final InputStream in = new FileInputStream(file);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+        return properties;
+    }
+
+    private static <T> T lookup(final Map<String, T> known, final String key, final String value) {
+        final T found = known.containsKey(value) ? known.get(value) : known.get(value.toUpperCase(Locale.US));
+        if (found == null) {
+            throw new IllegalArgumentException(key + " can't be " + value);
+        }
+        return found;
+    }
+
+    private static int parseInt(final String key, final String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(key + " needs a whole number, not " + value);
+        }
+    }
+
+    private static double parseDouble(final String key, final String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(key + " needs a number, not " + value);
+        }
+    }
+}
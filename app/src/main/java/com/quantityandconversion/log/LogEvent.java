@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.Arrays;
+
+/**
+ * A log message with named fields, started with {@link FyzLog#atDebug()} and its siblings.
+ * <pre>
+ * FyzLog.atInfo().kv("userId", id).kv("latencyMs", ms).log("request done");
+ * </pre>
+ * Fields are kept unrendered, primitives unboxed, and handed to the logger as they are, so a
+ * logger can write them as text, JSON or binary. Events are reused per thread: use one on the
+ * thread that started it and don't keep it after {@link #log(String)}. When the level isn't
+ * logged a shared instance that ignores everything is returned, so nothing is allocated.
+ */
+public class LogEvent {
+//Understands a log message made of values rather than text
+
+    /* package */ static final byte LONG = 0;
+    /* package */ static final byte DOUBLE = 1;
+    /* package */ static final byte BOOLEAN = 2;
+    /* package */ static final byte OBJECT = 3;
+
+    private static final int INITIAL_FIELDS = 8;
+    private static final int MAX_RETAINED_FIELDS = 64;
+
+    /* package */ static final LogEvent NOOP = new LogEvent() {
+        @Override
+        public LogEvent kv(final String key, final long value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(final String key, final double value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(final String key, final boolean value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent kv(final String key, final Object value) {
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+        }
+    };
+
+    private static final ThreadLocal<LogEvent> pooled = new ThreadLocal<LogEvent>() {
+        @Override
+        protected LogEvent initialValue() {
+            return new LogEvent();
+        }
+    };
+
+    private LogConfig config;
+    private LogLevel level;
+    private boolean inUse;
+    private int size;
+    private String[] keys = new String[INITIAL_FIELDS];
+    private byte[] types = new byte[INITIAL_FIELDS];
+    private long[] primitives = new long[INITIAL_FIELDS];
+    private Object[] objects = new Object[INITIAL_FIELDS];
+
+    /* package */ LogEvent() {
+    }
+
+    /**
+     * This thread's event, or {@link #NOOP} if {@code level} won't be logged.
+     */
+    /* package */ static LogEvent start(final LogConfig config, final LogLevel level) {
+        if (!config.shouldLog(level)) {
+            return NOOP;
+        }
+        LogEvent event = pooled.get();
+        if (event.inUse) {
+            event = new LogEvent();
+        }
+        event.inUse = true;
+        event.config = config;
+        event.level = level;
+        return event;
+    }
+
+    public LogEvent kv(final String key, final long value) {
+        return add(key, LONG, value, null);
+    }
+
+    public LogEvent kv(final String key, final double value) {
+        return add(key, DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    public LogEvent kv(final String key, final boolean value) {
+        return add(key, BOOLEAN, value ? 1 : 0, null);
+    }
+
+    /**
+     * A {@link LazyArg} value is computed once the event is known to be written.
+     */
+    public LogEvent kv(final String key, final Object value) {
+        return add(key, OBJECT, 0, value);
+    }
+
+    /**
+     * Writes the event and hands it back to be reused.
+     *
+     * @param message what happened; may be null when the fields say it all
+     */
+    public void log(final String message) {
+        try {
+            FyzLog.logEvent(config, level, message, this);
+        } finally {
+            recycle();
+        }
+    }
+
+    private LogEvent add(final String key, final byte type, final long primitive, final Object object) {
+        if (size == keys.length) {
+            final int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        keys[size] = key;
+        types[size] = type;
+        primitives[size] = primitive;
+        objects[size] = object;
+        size++;
+        return this;
+    }
+
+    private void recycle() {
+        if (keys.length > MAX_RETAINED_FIELDS) {
+            keys = new String[INITIAL_FIELDS];
+            types = new byte[INITIAL_FIELDS];
+            primitives = new long[INITIAL_FIELDS];
+            objects = new Object[INITIAL_FIELDS];
+        } else {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(objects, 0, size, null);
+        }
+        size = 0;
+        config = null;
+        level = null;
+        inUse = false;
+    }
+
+    /* package */ int size() {
+        return size;
+    }
+
+    /* package */ String key(final int index) {
+        return keys[index];
+    }
+
+    /* package */ byte type(final int index) {
+        return types[index];
+    }
+
+    /* package */ long longValue(final int index) {
+        return primitives[index];
+    }
+
+    /* package */ double doubleValue(final int index) {
+        return Double.longBitsToDouble(primitives[index]);
+    }
+
+    /* package */ boolean booleanValue(final int index) {
+        return primitives[index] != 0;
+    }
+
+    /**
+     * The value, with any {@link LazyArg} computed; primitives are boxed.
+     */
+    /* package */ Object value(final int index) {
+        switch (types[index]) {
+            case LONG:
+                return longValue(index);
+            case DOUBLE:
+                return doubleValue(index);
+            case BOOLEAN:
+                return booleanValue(index);
+            default:
+                return objectValue(index);
+        }
+    }
+
+    /**
+     * The value of an {@link #OBJECT} field, with any {@link LazyArg} computed.
+     */
+    /* package */ Object objectValue(final int index) {
+        final Object value = objects[index];
+        if (value instanceof LazyArg) {
+            objects[index] = ((LazyArg) value).get();
+            return objects[index];
+        }
+        return value;
+    }
+
+    /**
+     * Appends "message key=value key=value".
+     */
+    /* package */ void appendTo(final StringBuilder out, final String message) {
+        if (message != null) {
+            out.append(message);
+        }
+        for (int i = 0; i < size; i++) {
+            if (i > 0 || message != null) {
+                out.append(' ');
+            }
+            out.append(keys[i]).append('=');
+            switch (types[i]) {
+                case LONG:
+                    out.append(longValue(i));
+                    break;
+                case DOUBLE:
+                    out.append(doubleValue(i));
+                    break;
+                case BOOLEAN:
+                    out.append(booleanValue(i));
+                    break;
+                default:
+                    out.append(objectValue(i));
+            }
+        }
+    }
+
+    /**
+     * {@link #appendTo} as a format string, with each value as an argument; '%' in the
+     * message and keys is escaped.
+     */
+    /* package */ String template(final String message) {
+        final StringBuilder template = new StringBuilder();
+        if (message != null) {
+            appendEscaped(template, message);
+        }
+        for (int i = 0; i < size; i++) {
+            if (i > 0 || message != null) {
+                template.append(' ');
+            }
+            appendEscaped(template, keys[i]);
+            template.append("=%s");
+        }
+        return template.toString();
+    }
+
+    /**
+     * The values as format arguments, primitives boxed; any {@link LazyArg} is left for the caller.
+     */
+    /* package */ Object[] values() {
+        final Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = types[i] == OBJECT ? objects[i] : value(i);
+        }
+        return values;
+    }
+
+    private static void appendEscaped(final StringBuilder out, final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            out.append(c);
+            if (c == '%') {
+                out.append('%');
+            }
+        }
+    }
+}
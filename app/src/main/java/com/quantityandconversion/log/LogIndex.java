@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sparse index of the binary segments in a {@link LogStore}: one entry per block of records.
+ * <p>
+ * {@link BinaryLogger} starts a block every {@code blockBytes} by defining its formats, sites
+ * and threads afresh, so reading can begin at any block. Each entry holds the block's offset and
+ * length, the earliest and latest time in it, a bit per level, and a 64 bit filter of its tags.
+ * Entries are appended to a file beside the segment as each block ends; the block being written
+ * has no entry yet and is read in full by queries.
+ * <pre>
+ * offset:long length:long firstMillis:long lastMillis:long levels:int tags:long
+ * </pre>
+ */
+/* package */ final class LogIndex {
+//Understands where to look in a log store
+
+    /* package */ static final String INDEX_SUFFIX = ".idx";
+    private static final int ENTRY_BYTES = 5 * 8 + 4;
+
+    private final int blockBytes;
+    private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES);
+
+    private File segment;
+    private FileOutputStream out;
+    private long blockStart = -1;
+    private long blockEnd;
+    private long firstMillis;
+    private long lastMillis;
+    private int levels;
+    private long tags;
+    private long failures;
+
+    /**
+     * @param blockBytes roughly how much each entry covers; smaller blocks skip more precisely
+     *                   but repeat their definitions more often
+     */
+    /* package */ LogIndex(final int blockBytes) {
+        if (blockBytes <= 0) {
+            throw new IllegalArgumentException("LogIndex needs a positive block size");
+        }
+        this.blockBytes = blockBytes;
+    }
+
+    /**
+     * @param segmentBytes the bytes written to the current segment so far
+     * @return whether the next record should start a block
+     */
+    /* package */ boolean isBlockFull(final long segmentBytes) {
+        return blockStart < 0 || segmentBytes - blockStart >= blockBytes;
+    }
+
+    /**
+     * Adds a record to the current block, or ends it and starts another.
+     *
+     * @param offset where the record starts in {@code segment}
+     * @param length how long it is
+     */
+    /* package */ void recorded(final File segment, final boolean newBlock, final long offset, final int length,
+                                final long millis, final LogLevel level, final CallSite site) {
+        if (!segment.equals(this.segment)) {
+            endBlock();
+            openIndexFor(segment);
+        } else if (newBlock) {
+            endBlock();
+        }
+        if (blockStart < 0) {
+            blockStart = offset;
+            firstMillis = millis;
+            lastMillis = millis;
+            levels = 0;
+            tags = 0;
+        }
+        blockEnd = offset + length;
+        firstMillis = Math.min(firstMillis, millis);
+        lastMillis = Math.max(lastMillis, millis);
+        levels |= levelBit(level);
+        tags |= tagBit(site.tag());
+    }
+
+    /* package */ void close() {
+        endBlock();
+        closeIndex();
+        segment = null;
+    }
+
+    /* package */ long failures() {
+        return failures;
+    }
+
+    /* package */ static int levelBit(final LogLevel level) {
+        return 1 << level.level();
+    }
+
+    /* package */ static long tagBit(final String tag) {
+        return 1L << (tag.hashCode() & 63);
+    }
+
+    /**
+     * @return the entries for {@code segment}, in order; none if it has no index
+     */
+    /* package */ static List<Block> read(final File segment) throws IOException {
+        final List<Block> blocks = new ArrayList<>();
+        final File index = indexFor(segment);
+        if (!index.isFile()) {
+            return blocks;
+        }
+        final DataInputStream in = new DataInputStream(new FileInputStream(index));
+        try {
+            while (true) {
+                blocks.add(new Block(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readLong()));
+            }
+        } catch (final EOFException e) {
+            //Done, or an entry cut short by a crash
+        } finally {
+            in.close();
+        }
+        return blocks;
+    }
+
+    private static File indexFor(final File segment) {
+        return new File(segment.getPath() + INDEX_SUFFIX);
+    }
+
+    private void endBlock() {
+        if (blockStart < 0) {
+            return;
+        }
+        if (out != null) {
+            entry.clear();
+            entry.putLong(blockStart).putLong(blockEnd - blockStart).putLong(firstMillis).putLong(lastMillis)
+                    .putInt(levels).putLong(tags);
+            try {
+                out.write(entry.array(), 0, ENTRY_BYTES);
+            } catch (final IOException e) {
+                //The rest of the segment goes unindexed and is read in full
+                failures++;
+                closeIndex();
+            }
+        }
+        blockStart = -1;
+    }
+
+    private void openIndexFor(final File segment) {
+        closeIndex();
+        this.segment = segment;
+        deleteOrphans(segment.getParentFile());
+        try {
+            out = new FileOutputStream(indexFor(segment), true);
+        } catch (final IOException e) {
+            failures++;
+        }
+    }
+
+    private void closeIndex() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (final IOException ignored) {
+                //Nothing left to lose
+            }
+        }
+        out = null;
+    }
+
+    /**
+     * Removes the indexes of segments the {@link RollingFile} has deleted.
+     */
+    private static void deleteOrphans(final File directory) {
+        final File[] indexes = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith(RollingFile.SEGMENT_PREFIX) && name.endsWith(RollingFile.SEGMENT_SUFFIX + INDEX_SUFFIX);
+            }
+        });
+        if (indexes == null) {
+            return;
+        }
+        for (final File index : indexes) {
+            final String path = index.getPath();
+            if (!new File(path.substring(0, path.length() - INDEX_SUFFIX.length())).exists()) {
+                index.delete();
+            }
+        }
+    }
+
+    /* package */ static final class Block {
+        /* package */ final long offset;
+        /* package */ final long length;
+        /* package */ final long firstMillis;
+        /* package */ final long lastMillis;
+        /* package */ final int levels;
+        /* package */ final long tags;
+
+        private Block(final long offset, final long length, final long firstMillis, final long lastMillis, final int levels, final long tags) {
+            this.offset = offset;
+            this.length = length;
+            this.firstMillis = firstMillis;
+            this.lastMillis = lastMillis;
+            this.levels = levels;
+            this.tags = tags;
+        }
+    }
+}
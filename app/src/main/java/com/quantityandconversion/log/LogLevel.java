@@ -46,6 +46,19 @@ import android.util.Log;
     /* package */
     abstract void log(final String logTag, final String msg);
 
+    /* package */ static LogLevel of(final int level) {
+        for (final LogLevel logLevel : new LogLevel[]{VERBOSE, DEBUG, INFO, WARN, ERROR, ASSERT}) {
+            if (logLevel.level == level) {
+                return logLevel;
+            }
+        }
+        throw new IllegalArgumentException("Unknown log level " + level);
+    }
+
+    /* package */ int level() {
+        return level;
+    }
+
     /* package */ String tag() {
         return levelTag;
     }
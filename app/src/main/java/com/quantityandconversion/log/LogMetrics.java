@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Counts of what a {@link Logger} has done and how long it took, for shipping to telemetry.
+ * <p>
+ * Per level: messages logged, filtered by level, and suppressed by a {@link Throttle} or as a
+ * {@link Coalescing} repeat; overall: messages dropped by {@link BackPressure}, UTF-8 bytes
+ * emitted, and a histogram of the time spent in {@link Logger#log}. Counters are striped per
+ * thread, so recording doesn't contend.
+ * <p>
+ * {@link #DISABLED} records nothing and doesn't read the clock.
+ */
+/* package */ final class LogMetrics {
+//Understands what logging is costing
+
+    /* package */ static final LogMetrics DISABLED = new LogMetrics(null);
+
+    /**
+     * Bucket 0 holds anything under 128ns; each bucket after it doubles, the last holding everything longer.
+     */
+    /* package */ static final int LATENCY_BUCKETS = 24;
+    private static final int LATENCY_FIRST_SHIFT = 7;
+
+    private static final int LEVELS = 8;
+    private static final int LOGGED = 0;
+    private static final int FILTERED = LOGGED + LEVELS;
+    private static final int SUPPRESSED = FILTERED + LEVELS;
+    private static final int DROPPED = SUPPRESSED + LEVELS;
+    private static final int BYTES = DROPPED + 1;
+    private static final int LATENCY_NANOS = BYTES + 1;
+    private static final int LATENCY = LATENCY_NANOS + 1;
+    private static final int COUNTERS = LATENCY + LATENCY_BUCKETS;
+
+    private final StripedCounters counters;
+
+    /* package */ LogMetrics() {
+        this(new StripedCounters(COUNTERS));
+    }
+
+    private LogMetrics(final StripedCounters counters) {
+        this.counters = counters;
+    }
+
+    /* package */ boolean isEnabled() {
+        return counters != null;
+    }
+
+    /**
+     * @return the time to pass to {@link #finished(long)}, or 0 when disabled
+     */
+    /* package */ long startNanos() {
+        return counters == null ? 0 : System.nanoTime();
+    }
+
+    /* package */ void finished(final long startNanos) {
+        if (counters == null) {
+            return;
+        }
+        final long elapsed = Math.max(0, System.nanoTime() - startNanos);
+        counters.add(LATENCY_NANOS, elapsed);
+        counters.add(LATENCY + latencyBucket(elapsed), 1);
+    }
+
+    /* package */ void logged(final LogLevel level) {
+        if (counters != null) {
+            counters.add(LOGGED + level.level(), 1);
+        }
+    }
+
+    /* package */ void filtered(final LogLevel level) {
+        if (counters != null) {
+            counters.add(FILTERED + level.level(), 1);
+        }
+    }
+
+    /* package */ void suppressed(final LogLevel level) {
+        if (counters != null) {
+            counters.add(SUPPRESSED + level.level(), 1);
+        }
+    }
+
+    /* package */ void dropped() {
+        if (counters != null) {
+            counters.add(DROPPED, 1);
+        }
+    }
+
+    /* package */ void emitted(final CharSequence text) {
+        if (counters != null) {
+            counters.add(BYTES, Utf8.encodedLength(text, 0, text.length()));
+        }
+    }
+
+    /* package */ void emitted(final long bytes) {
+        if (counters != null) {
+            counters.add(BYTES, bytes);
+        }
+    }
+
+    /**
+     * Sums the counters; each is current as of the moment it is read.
+     */
+    /* package */ Snapshot snapshot() {
+        final long[] values = new long[COUNTERS];
+        if (counters != null) {
+            for (int i = 0; i < COUNTERS; i++) {
+                values[i] = counters.sum(i);
+            }
+        }
+        return new Snapshot(values);
+    }
+
+    /* package */ static int latencyBucket(final long nanos) {
+        final int bucket = 64 - Long.numberOfLeadingZeros(nanos) - LATENCY_FIRST_SHIFT;
+        return Math.min(LATENCY_BUCKETS - 1, Math.max(0, bucket));
+    }
+
+    /**
+     * @return the exclusive upper bound of {@code bucket}; the last bucket has none
+     */
+    /* package */ static long latencyUpperBoundNanos(final int bucket) {
+        return bucket == LATENCY_BUCKETS - 1 ? Long.MAX_VALUE : 1L << (bucket + LATENCY_FIRST_SHIFT);
+    }
+
+    /* package */ static final class Snapshot {
+        private final long[] values;
+
+        private Snapshot(final long[] values) {
+            this.values = values;
+        }
+
+        /* package */ long logged(final LogLevel level) {
+            return values[LOGGED + level.level()];
+        }
+
+        /* package */ long filtered(final LogLevel level) {
+            return values[FILTERED + level.level()];
+        }
+
+        /* package */ long suppressed(final LogLevel level) {
+            return values[SUPPRESSED + level.level()];
+        }
+
+        /* package */ long dropped() {
+            return values[DROPPED];
+        }
+
+        /* package */ long bytesEmitted() {
+            return values[BYTES];
+        }
+
+        /* package */ long latencyTotalNanos() {
+            return values[LATENCY_NANOS];
+        }
+
+        /* package */ long latencyCount() {
+            long count = 0;
+            for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                count += values[LATENCY + bucket];
+            }
+            return count;
+        }
+
+        /**
+         * @return how many calls fell in each bucket; see {@link #latencyUpperBoundNanos(int)}
+         */
+        /* package */ long[] latencyBuckets() {
+            final long[] buckets = new long[LATENCY_BUCKETS];
+            System.arraycopy(values, LATENCY, buckets, 0, LATENCY_BUCKETS);
+            return buckets;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return the upper bound of the bucket the percentile falls in, or 0 if nothing was timed
+         */
+        /* package */ long latencyPercentileNanos(final double percentile) {
+            final long count = latencyCount();
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                seen += values[LATENCY + bucket];
+                if (seen >= rank && seen > 0) {
+                    return latencyUpperBoundNanos(bucket);
+                }
+            }
+            return latencyUpperBoundNanos(LATENCY_BUCKETS - 1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Which records to read back from a {@link LogStore}; start from {@link #ALL} and narrow it.
+ * <pre>
+ * LogQuery.ALL.between(hourAgo, now).atLeast(LogLevel.WARN).withTag("SyncService")
+ * </pre>
+ */
+/* package */ final class LogQuery {
+//Understands picking records out of a log store
+
+    /* package */ static final LogQuery ALL = new LogQuery(Long.MIN_VALUE, Long.MAX_VALUE, LogLevel.VERBOSE, null);
+
+    private final long fromMillis;
+    private final long toMillis;
+    private final LogLevel minimum;
+    private final String tag;
+
+    private LogQuery(final long fromMillis, final long toMillis, final LogLevel minimum, final String tag) {
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+        this.minimum = minimum;
+        this.tag = tag;
+    }
+
+    /**
+     * Records logged from {@code fromMillis} to {@code toMillis}, both included.
+     */
+    /* package */ LogQuery between(final long fromMillis, final long toMillis) {
+        return new LogQuery(fromMillis, toMillis, minimum, tag);
+    }
+
+    /* package */ LogQuery atLeast(final LogLevel minimum) {
+        return new LogQuery(fromMillis, toMillis, minimum, tag);
+    }
+
+    /**
+     * @param className the simple class name the records were tagged with, as in "FYZ:SyncService"
+     */
+    /* package */ LogQuery withTag(final String className) {
+        return new LogQuery(fromMillis, toMillis, minimum, className == null ? null : CallSite.TAG_PREFIX + className);
+    }
+
+    /**
+     * Whether {@code block} may hold a matching record; false means it certainly doesn't.
+     */
+    /* package */ boolean mayMatch(final LogIndex.Block block) {
+        return block.lastMillis >= fromMillis && block.firstMillis <= toMillis
+                && (block.levels & -LogIndex.levelBit(minimum)) != 0
+                && (tag == null || (block.tags & LogIndex.tagBit(tag)) != 0);
+    }
+
+    /* package */ boolean matches(final long millis, final LogLevel level, final CallSite site) {
+        return millis >= fromMillis && millis <= toMillis && level.logAt(minimum)
+                && (tag == null || tag.equals(site.tag()));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free queue of captured log requests.
+ * <p>
+ * Slots are allocated up front and reused. Each slot carries a sequence number that says
+ * whether it is free for the producer claiming position {@code n} (sequence {@code n}) or
+ * holds the event published at {@code n} (sequence {@code n + 1}). Producers and consumers
+ * claim positions with a CAS on their cursor and publish with a volatile write of the sequence.
+ */
+/* package */ final class LogRing {
+//Understands handing log requests between threads without locking
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong retired = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    /* package */ LogRing(final int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("LogRing capacity must be at least 2");
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i);
+        }
+        mask = size - 1;
+    }
+
+    /* package */ int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return false if the ring is full
+     */
+    /* package */ boolean offer(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        long pos = tail.get();
+        while (true) {
+            final Slot slot = slots[(int) pos & mask];
+            final long available = slot.sequence - pos;
+            if (available == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slot.level = level;
+                    slot.logLevel = logLevel;
+                    slot.site = site;
+                    slot.threadName = threadName;
+                    slot.msgFormat = msgFormat;
+                    slot.args = args;
+                    slot.sequence = pos + 1;
+                    return true;
+                }
+                pos = tail.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest event and writes it to {@code sink}, or discards it if {@code sink} is null.
+     *
+     * @return false if the ring is empty
+     */
+    /* package */ boolean poll(final Logger sink) {
+        long pos = head.get();
+        while (true) {
+            final Slot slot = slots[(int) pos & mask];
+            final long available = slot.sequence - (pos + 1);
+            if (available == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    final LogLevel level = slot.level;
+                    final LogLevel logLevel = slot.logLevel;
+                    final CallSite site = slot.site;
+                    final String threadName = slot.threadName;
+                    final String msgFormat = slot.msgFormat;
+                    final Object[] args = slot.args;
+                    slot.clear();
+                    slot.sequence = pos + slots.length;
+                    try {
+                        if (sink != null) {
+                            sink.write(level, logLevel, site, threadName, msgFormat, args);
+                        } else {
+                            discarded.incrementAndGet();
+                        }
+                    } finally {
+                        retired.incrementAndGet();
+                    }
+                    return true;
+                }
+                pos = head.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /* package */ boolean isEmpty() {
+        final long pos = head.get();
+        return slots[(int) pos & mask].sequence != pos + 1;
+    }
+
+    /**
+     * @return how many positions producers have claimed so far
+     */
+    /* package */ long claimed() {
+        return tail.get();
+    }
+
+    /**
+     * @return how many events have been written or discarded so far
+     */
+    /* package */ long retired() {
+        return retired.get();
+    }
+
+    /**
+     * @return how many events were removed without being written
+     */
+    /* package */ long discarded() {
+        return discarded.get();
+    }
+
+    private static final class Slot {
+        private volatile long sequence;
+        private LogLevel level;
+        private LogLevel logLevel;
+        private CallSite site;
+        private String threadName;
+        private String msgFormat;
+        private Object[] args;
+
+        private Slot(final long sequence) {
+            this.sequence = sequence;
+        }
+
+        private void clear() {
+            level = null;
+            logLevel = null;
+            site = null;
+            threadName = null;
+            msgFormat = null;
+            args = null;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Binary log segments on the device that can be searched by time, level and tag.
+ * <pre>
+ * final LogStore store = new LogStore(directory, 1024 * 1024, HOUR, 16 * 1024 * 1024, 1000, 64 * 1024);
+ * FyzLog.writeTo(store.logger());
+ * ...
+ * final LogStore.Cursor warnings = store.query(LogQuery.ALL.between(hourAgo, now).atLeast(LogLevel.WARN).withTag("SyncService"));
+ * while (warnings.next()) {
+ *     send(warnings.systemOutLine());
+ * }
+ * warnings.close();
+ * </pre>
+ * Records are written by a {@link BinaryLogger} and indexed per block by a {@link LogIndex}. A
+ * query reads only the blocks whose index entry may match, and only one block at a time, so
+ * results are never all held in memory. Blocks are read from disk as the cursor moves; one that
+ * the size limit deletes meanwhile ends early.
+ */
+/* package */ final class LogStore {
+//Understands finding old log records without reading them all
+
+    private final RollingFile file;
+    private final LogIndex index;
+    private final BinaryLogger logger;
+
+    /**
+     * @param blockBytes how much of a segment each index entry covers
+     * @see RollingFile#RollingFile(File, long, long, long, long)
+     */
+    /* package */ LogStore(final File directory, final long maxSegmentBytes, final long maxSegmentAgeMillis, final long maxTotalBytes,
+                           final long syncIntervalMillis, final int blockBytes) {
+        this.file = new RollingFile(directory, maxSegmentBytes, maxSegmentAgeMillis, maxTotalBytes, syncIntervalMillis);
+        this.index = new LogIndex(blockBytes);
+        this.logger = new BinaryLogger(file, index);
+    }
+
+    /**
+     * @return the logger that writes into this store
+     */
+    /* package */ Logger logger() {
+        return logger;
+    }
+
+    /**
+     * Writes anything buffered, then starts reading the records that match, oldest segment first.
+     */
+    /* package */ Cursor query(final LogQuery query) {
+        file.sync();
+        return new Cursor(file.segments(), query);
+    }
+
+    /* package */ void close() {
+        synchronized (file) {
+            index.close();
+        }
+        file.close();
+    }
+
+    /* package */ long failures() {
+        synchronized (file) {
+            return file.failures() + index.failures();
+        }
+    }
+
+    /**
+     * Moves through the records matching a query; read each one's fields after {@link #next()}.
+     */
+    /* package */ static final class Cursor {
+    //Understands reading query results one at a time
+
+        private final ArrayDeque<File> segments = new ArrayDeque<>();
+        private final ArrayDeque<Region> regions = new ArrayDeque<>();
+        private final LogQuery query;
+        private BinaryLogReader reader;
+        private int regionsRead;
+
+        private Cursor(final File[] segments, final LogQuery query) {
+            this.query = query;
+            for (final File segment : segments) {
+                this.segments.add(segment);
+            }
+        }
+
+        /**
+         * Advances to the next matching record.
+         *
+         * @return false when there are no more
+         */
+        /* package */ boolean next() throws IOException {
+            while (true) {
+                if (reader != null) {
+                    while (reader.next()) {
+                        if (query.matches(reader.millis(), reader.level(), reader.site())) {
+                            return true;
+                        }
+                    }
+                    reader.close();
+                    reader = null;
+                }
+                if (regions.isEmpty() && !planNextSegment()) {
+                    return false;
+                }
+                if (!regions.isEmpty()) {
+                    reader = open(regions.poll());
+                }
+            }
+        }
+
+        /* package */ void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+            segments.clear();
+            regions.clear();
+        }
+
+        /* package */ LogLevel level() {
+            return reader.level();
+        }
+
+        /* package */ LogLevel logLevel() {
+            return reader.logLevel();
+        }
+
+        /* package */ long millis() {
+            return reader.millis();
+        }
+
+        /* package */ String threadName() {
+            return reader.threadName();
+        }
+
+        /* package */ CallSite site() {
+            return reader.site();
+        }
+
+        /* package */ String msgFormat() {
+            return reader.msgFormat();
+        }
+
+        /* package */ Object[] args() {
+            return reader.args();
+        }
+
+        /**
+         * @return the current record as {@link Logger#SystemOut} writes it
+         */
+        /* package */ String systemOutLine() {
+            return reader.systemOutLine();
+        }
+
+        /**
+         * @return how many blocks, or unindexed tails of a segment, have been opened
+         */
+        /* package */ int regionsRead() {
+            return regionsRead;
+        }
+
+        /**
+         * Queues the blocks of the next segment that may match, and whatever the index doesn't cover yet.
+         *
+         * @return false when no segments are left
+         */
+        private boolean planNextSegment() throws IOException {
+            final File segment = segments.poll();
+            if (segment == null) {
+                return false;
+            }
+            final List<LogIndex.Block> blocks = LogIndex.read(segment);
+            long indexedTo = 0;
+            for (final LogIndex.Block block : blocks) {
+                if (query.mayMatch(block)) {
+                    regions.add(new Region(segment, block.offset, block.length));
+                }
+                indexedTo = block.offset + block.length;
+            }
+            if (indexedTo < segment.length()) {
+                regions.add(new Region(segment, indexedTo, Long.MAX_VALUE));
+            }
+            return true;
+        }
+
+        /**
+         * @return null if the region is gone: its segment was deleted by the size limit, or cut short
+         */
+        private BinaryLogReader open(final Region region) throws IOException {
+            regionsRead++;
+            final FileInputStream in;
+            try {
+                in = new FileInputStream(region.segment);
+            } catch (final FileNotFoundException e) {
+                return null;
+            }
+            try {
+                long skipped = 0;
+                while (skipped < region.offset) {
+                    final long step = in.skip(region.offset - skipped);
+                    if (step <= 0) {
+                        in.close();
+                        return null;
+                    }
+                    skipped += step;
+                }
+                //Where no block has been indexed yet, the segment is read from its header
+                final InputStream block = new Bounded(in, region.length);
+                return region.offset == 0 ? new BinaryLogReader(block) : BinaryLogReader.fromBlock(block);
+            } catch (final EOFException e) {
+                in.close();
+                return null;
+            } catch (final IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+    }
+
+    private static final class Region {
+        private final File segment;
+        private final long offset;
+        private final long length;
+
+        private Region(final File segment, final long offset, final long length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Ends after {@code length} bytes, so a block's reader can't run into the next block.
+     */
+    private static final class Bounded extends FilterInputStream {
+        private long remaining;
+
+        private Bounded(final InputStream in, final long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int count) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = super.read(buffer, offset, (int) Math.min(count, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
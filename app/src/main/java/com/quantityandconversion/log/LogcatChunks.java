@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Splits a message too long for one logcat entry into entries that fit.
+ * <p>
+ * Logcat truncates an entry at about 4 KB of UTF-8. Each chunk is at most {@link #MAX_CHUNK_BYTES},
+ * ends at the last line break that fits if there is one, and never splits a surrogate pair.
+ * Chunks after the first start with {@link #CONTINUATION}. Only each chunk is copied,
+ * straight out of the builder the message was assembled in.
+ */
+/* package */ final class LogcatChunks {
+//Understands fitting long messages into logcat
+
+    /* package */ static final int MAX_CHUNK_BYTES = 4000;
+    /* package */ static final String CONTINUATION = "... ";
+
+    private final StringBuilder message;
+    private char[] buffer;
+    private int next;
+
+    /* package */ LogcatChunks(final StringBuilder message) {
+        this.message = message;
+    }
+
+    /**
+     * Logs {@code message} under {@code tag}, in as many entries as it needs.
+     */
+    /* package */ static void log(final LogLevel level, final String tag, final StringBuilder message) {
+        //Three bytes per char is the most a char can take alone
+        if (message.length() <= MAX_CHUNK_BYTES / 3) {
+            level.log(tag, message.toString());
+            return;
+        }
+        final LogcatChunks chunks = new LogcatChunks(message);
+        while (chunks.hasNext()) {
+            level.log(tag, chunks.next());
+        }
+    }
+
+    /* package */ boolean hasNext() {
+        return next < message.length() || (next == 0 && message.length() == 0);
+    }
+
+    /* package */ String next() {
+        final int start = next;
+        final boolean continuation = start > 0;
+        final int budget = continuation ? MAX_CHUNK_BYTES - CONTINUATION.length() : MAX_CHUNK_BYTES;
+
+        int bytes = 0;
+        int lineBreak = -1;
+        int end = start;
+        while (end < message.length()) {
+            final char c = message.charAt(end);
+            int chars = 1;
+            final int width;
+            if (c < 0x80) {
+                width = 1;
+            } else if (c < 0x800) {
+                width = 2;
+            } else if (Character.isHighSurrogate(c) && end + 1 < message.length() && Character.isLowSurrogate(message.charAt(end + 1))) {
+                width = 4;
+                chars = 2;
+            } else {
+                width = 3;
+            }
+            if (bytes + width > budget) {
+                break;
+            }
+            if (c == '\n') {
+                lineBreak = end;
+            }
+            bytes += width;
+            end += chars;
+        }
+
+        if (end < message.length() && lineBreak > start) {
+            next = lineBreak + 1;
+            end = lineBreak;
+        } else {
+            next = end == start ? end + 1 : end;
+        }
+
+        if (!continuation) {
+            return end == message.length() ? message.toString() : message.substring(0, end);
+        }
+        if (buffer == null) {
+            buffer = new char[CONTINUATION.length() + MAX_CHUNK_BYTES];
+            CONTINUATION.getChars(0, CONTINUATION.length(), buffer, 0);
+        }
+        message.getChars(start, end, buffer, CONTINUATION.length());
+        return new String(buffer, 0, CONTINUATION.length() + end - start);
+    }
+}
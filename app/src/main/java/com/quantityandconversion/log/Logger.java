@@ -1,69 +1,278 @@
 package com.quantityandconversion.log;
 
-import java.util.Locale;
-
 /* package */ abstract class Logger {
-    private static final String TAG_PREFIX = "FYZ:";
     /* package */ static final Logger SystemOut = new Logger() {
         @Override
-        /* package */ void log(LogLevel level, LogLevel logLevel, String msgFormat, Object... args) {
+        /* package */ boolean isLoggable(LogLevel level, LogLevel logLevel) {
+            return true;
+        }
+
+        @Override
+        /* package */ boolean mayBlock() {
+            return false;
+        }
+
+        @Override
+        /* package */ void log(LogLevel level, LogConfig config, String msgFormat, Object... args) {
             if (msgFormat == null)
                 throw new IllegalArgumentException("FyzLog message can not be null");
 
-            final StackTraceElement frame = getCallingStackTraceElement();
-            final String output =
-                    level.tag() + "@" + logLevel.tag() + "/ " +
-                            createTag(frame) + " " +
-                            createMessage(frame, String.format(Locale.US, msgFormat, args));
-            System.out.println(output);
+            super.log(level, config, msgFormat, args);
+        }
+
+        @Override
+        /* package */ void write(LogLevel level, LogLevel logLevel, CallSite site, String threadName, String msgFormat, Object[] args) {
+            final StringBuilder line = LineBuffer.acquire();
+            try {
+                line.append(level.tag()).append('@').append(logLevel.tag()).append("/ ")
+                        .append(site.tag()).append(' ');
+                appendMessage(line, site, threadName, msgFormat, args);
+                println(line);
+            } finally {
+                LineBuffer.release(line);
+            }
+        }
+
+        @Override
+        /* package */ void writeEvent(LogLevel level, LogLevel logLevel, CallSite site, String threadName, String message, LogEvent event) {
+            final StringBuilder line = LineBuffer.acquire();
+            try {
+                line.append(level.tag()).append('@').append(logLevel.tag()).append("/ ")
+                        .append(site.tag()).append(' ');
+                appendEvent(line, site, threadName, message, event);
+                println(line);
+            } finally {
+                LineBuffer.release(line);
+            }
+        }
+
+        private void println(final StringBuilder line) {
+            System.out.println(line.toString());
+            metrics().emitted(line);
         }
     };
     /* package */ static final Logger AndroidLog = new Logger() {
         @Override
-        /* package */ void log(LogLevel level, LogLevel logLevel, String msgFormat, Object... args) {
-            if (level.logAt(logLevel) && msgFormat != null) {
-                final StackTraceElement frame = getCallingStackTraceElement();
-                final String tag = createTag(frame);
-                final String msg = String.format(Locale.US, msgFormat, args);
-                final String message = createMessage(frame, msg);
-
-                level.log(tag, message);
+        /* package */ boolean isLoggable(LogLevel level, LogLevel logLevel) {
+            return level.logAt(logLevel);
+        }
+
+        @Override
+        /* package */ boolean mayBlock() {
+            return false;
+        }
+
+        @Override
+        /* package */ void write(LogLevel level, LogLevel logLevel, CallSite site, String threadName, String msgFormat, Object[] args) {
+            final StringBuilder message = LineBuffer.acquire();
+            try {
+                appendMessage(message, site, threadName, msgFormat, args);
+                log(level, site, message);
+            } finally {
+                LineBuffer.release(message);
             }
         }
+
+        @Override
+        /* package */ void writeEvent(LogLevel level, LogLevel logLevel, CallSite site, String threadName, String message, LogEvent event) {
+            final StringBuilder line = LineBuffer.acquire();
+            try {
+                appendEvent(line, site, threadName, message, event);
+                log(level, site, line);
+            } finally {
+                LineBuffer.release(line);
+            }
+        }
+
+        private void log(final LogLevel level, final CallSite site, final StringBuilder message) {
+            LogcatChunks.log(level, site.tag(), message);
+            metrics().emitted(message);
+        }
     };
 
-    private Logger() {
+    private volatile LogMetrics metrics = LogMetrics.DISABLED;
+
+    /* package */ Logger() {
     }
 
-    private static String createTag(final StackTraceElement frame) {
-        final String fullClassName = frame.getClassName();
-        final String className = fullClassName.substring(fullClassName.lastIndexOf('.') + 1);
-        return TAG_PREFIX + className;
+    /**
+     * Appends "[thread] method : formatted message".
+     */
+    /* package */ static void appendMessage(final StringBuilder out, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+        out.append('[').append(threadName).append("] ")
+                .append(site.methodName()).append(" : ");
+        MessageTemplate.formatTo(out, msgFormat, args);
     }
 
-    private static String createMessage(final StackTraceElement frame, final String msg) {
-        return String.format(Locale.US,
-                "[%s] %s : %s",
-                Thread.currentThread().getName(),
-                frame.getMethodName(),
-                msg);
+    /**
+     * Appends "[thread] method : message key=value key=value".
+     */
+    /* package */ static void appendEvent(final StringBuilder out, final CallSite site, final String threadName, final String message, final LogEvent event) {
+        out.append('[').append(threadName).append("] ")
+                .append(site.methodName()).append(" : ");
+        event.appendTo(out, message);
     }
 
-    private static StackTraceElement getCallingStackTraceElement() {
-        boolean hitLogger = false;
-        for (final StackTraceElement ste : Thread.currentThread().getStackTrace()) {
-            final boolean isLogger = ste.getClassName().startsWith(FyzLog.class.getName());
-            hitLogger = hitLogger || isLogger;
-            if (hitLogger && !isLogger) {
-                return ste;
+    /**
+     * Whether a message at {@code level} would be written while logging at {@code logLevel}.
+     * <p>
+     * SystemOut writes every level, tagged with both, so tests can see what was attempted.
+     */
+    /* package */
+    abstract boolean isLoggable(final LogLevel level, final LogLevel logLevel);
+
+    /**
+     * Whether writing can wait on something slow, such as disk or a full queue.
+     * <p>
+     * True unless the logger says otherwise; {@link FanOutLogger} only writes to those that don't on the logging thread.
+     */
+    /* package */ boolean mayBlock() {
+        return true;
+    }
+
+    /**
+     * Captures the caller and thread of a log request and writes it.
+     * <p>
+     * Runs on the thread making the request; null messages are dropped.
+     * Any {@link LazyArg} is computed here, once the message is known to be written.
+     * Where a {@link LevelOverrides} entry could filter the message, or a {@link Throttle} limits its
+     * level, the caller is needed to decide, so it is looked up whatever the {@link CallerMode};
+     * otherwise the {@link CallerMode} decides, and only that one lookup is made. Repeats are counted rather than written while
+     * {@link Coalescing} is on.
+     */
+    /* package */ void log(final LogLevel level, final LogConfig config, final String msgFormat, final Object... args) {
+        if (msgFormat == null) {
+            return;
+        }
+        final LogMetrics metrics = this.metrics;
+        final long startNanos = metrics.startNanos();
+        dispatch(level, config, metrics, msgFormat, args, null);
+        CallSite.forgetHint();
+        metrics.finished(startNanos);
+    }
+
+    /**
+     * {@link #log} for a {@link LogEvent}, whose fields reach {@link #writeEvent} unrendered.
+     * <p>
+     * Events aren't coalesced; their fields belong to the event and are reused once this returns.
+     */
+    /* package */ void logEvent(final LogLevel level, final LogConfig config, final String message, final LogEvent event) {
+        final LogMetrics metrics = this.metrics;
+        final long startNanos = metrics.startNanos();
+        dispatch(level, config, metrics, message, null, event);
+        CallSite.forgetHint();
+        metrics.finished(startNanos);
+    }
+
+    private void dispatch(final LogLevel level, final LogConfig config, final LogMetrics metrics, final String msgFormat, final Object[] args,
+                          final LogEvent event) {
+        final LogLevel logLevel = config.logLevel();
+        final LevelOverrides overrides = config.overrides();
+        final Throttle throttle = config.throttle();
+        if (overrides.isEmpty() && throttle.isEmpty()) {
+            if (isLoggable(level, logLevel)) {
+                emit(level, logLevel, config.callerMode().callSite(level, msgFormat), config.coalescing(), metrics, msgFormat, args, event);
+            } else {
+                metrics.filtered(level);
+            }
+            return;
+        }
+        if (!isLoggable(level, overrides.lowest(logLevel))) {
+            metrics.filtered(level);
+            return;
+        }
+        final boolean limited = throttle.limits(level);
+        final CallSite site = limited || !isLoggable(level, overrides.highest(logLevel))
+                ? CallSite.resolve(msgFormat)
+                : config.callerMode().callSite(level, msgFormat);
+        final LogLevel siteLogLevel = site.logLevel(overrides, logLevel);
+        if (!isLoggable(level, siteLogLevel)) {
+            metrics.filtered(level);
+            return;
+        }
+        if (!limited) {
+            emit(level, siteLogLevel, site, config.coalescing(), metrics, msgFormat, args, event);
+            return;
+        }
+
+        final boolean admitted = throttle.admit(this, level, siteLogLevel, site);
+        final long suppressed = throttle.takeSuppressed(level, site, admitted);
+        if (suppressed > 0) {
+            write(level, siteLogLevel, site, Thread.currentThread().getName(), Throttle.SUPPRESSED_FORMAT,
+                    new Object[]{suppressed, site.className(), site.methodName()});
+        }
+        if (admitted) {
+            emit(level, siteLogLevel, site, config.coalescing(), metrics, msgFormat, args, event);
+        } else {
+            metrics.suppressed(level);
+        }
+    }
+
+    private void emit(final LogLevel level, final LogLevel logLevel, final CallSite site, final Coalescing coalescing,
+                      final LogMetrics metrics, final String msgFormat, final Object[] args, final LogEvent event) {
+        final String threadName = Thread.currentThread().getName();
+        if (event != null) {
+            metrics.logged(level);
+            writeEvent(level, logLevel, site, threadName, msgFormat, event);
+            return;
+        }
+        final Object[] resolved = resolveLazyArgs(args);
+        if (coalescing.isRepeat(this, level, logLevel, site, threadName, msgFormat, resolved)) {
+            metrics.suppressed(level);
+            return;
+        }
+        metrics.logged(level);
+        write(level, logLevel, site, threadName, msgFormat, resolved);
+    }
+
+    /**
+     * Computes any {@link LazyArg}s, copying rather than changing the caller's array.
+     */
+    /* package */ static Object[] resolveLazyArgs(final Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] resolved = args;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof LazyArg) {
+                if (resolved == args) {
+                    resolved = args.clone();
+                }
+                resolved[i] = ((LazyArg) args[i]).get();
             }
         }
-        return new StackTraceElement(FyzLog.class.getName(),
-                "getCallingStackTraceElement",
-                null,
-                -1);
+        return resolved;
+    }
+
+    /**
+     * Starts recording what this logger does into {@code metrics}; {@link LogMetrics#DISABLED} stops.
+     */
+    /* package */ void recordMetricsTo(final LogMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /* package */ LogMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Outputs a {@link LogEvent} that has already been captured; the event can't be kept after this returns.
+     * <p>
+     * Writes "message key=value key=value" by default. Loggers that can keep the fields apart override this.
+     */
+    /* package */ void writeEvent(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String message, final LogEvent event) {
+        final StringBuilder text = LineBuffer.acquire();
+        try {
+            event.appendTo(text, message);
+            write(level, logLevel, site, threadName, "%s", new Object[]{text.toString()});
+        } finally {
+            LineBuffer.release(text);
+        }
     }
 
+    /**
+     * Formats and outputs a log request that has already been captured.
+     */
     /* package */
-    abstract void log(final LogLevel level, final LogLevel logLevel, final String msgFormat, final Object... args);
+    abstract void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args);
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A format string parsed once into literal text and conversions.
+ * <p>
+ * Only the plain {@code %s}, {@code %d}, {@code %b}, {@code %x}, {@code %%} and {@code %n}
+ * forms are compiled. Anything else, including flags, widths and argument indexes, and any
+ * argument the conversion can't render exactly as {@link String#format} would,
+ * falls back to {@link String#format} with {@link Locale#US}.
+ */
+/* package */ final class MessageTemplate {
+//Understands rendering a format string without re-parsing it
+
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final ConcurrentHashMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+    private final String format;
+    private final Segment[] segments;
+    private final int argCount;
+
+    private MessageTemplate(final String format, final Segment[] segments, final int argCount) {
+        this.format = format;
+        this.segments = segments;
+        this.argCount = argCount;
+    }
+
+    /**
+     * The compiled template for {@code format}, cached unless it has no conversions.
+     * <p>
+     * A message without any is usually built by the caller and never seen again, so it isn't kept.
+     * When the cache is full it is emptied, so formats that stop being logged don't hold their
+     * place and the ones still in use are cached again as they come back.
+     */
+    /* package */ static MessageTemplate of(final String format) {
+        final MessageTemplate cached = templates.get(format);
+        if (cached != null) {
+            return cached;
+        }
+
+        final MessageTemplate template = compile(format);
+        if (format.indexOf('%') < 0) {
+            return template;
+        }
+        if (templates.size() >= MAX_CACHED_TEMPLATES) {
+            templates.clear();
+        }
+        templates.putIfAbsent(format, template);
+        return template;
+    }
+
+    /**
+     * Appends {@code format} with {@code args} formatted in. A format without conversions is
+     * appended as it is, without compiling a template for it.
+     */
+    /* package */ static void formatTo(final StringBuilder out, final String format, final Object[] args) {
+        if (format.indexOf('%') < 0) {
+            out.append(format);
+            return;
+        }
+        of(format).formatTo(out, args);
+    }
+
+    /**
+     * {@code format} with {@code args} formatted in; a format without conversions is returned as it is.
+     */
+    /* package */ static String format(final String format, final Object[] args) {
+        if (format.indexOf('%') < 0) {
+            return format;
+        }
+        return of(format).format(args);
+    }
+
+    /* package */ static MessageTemplate compile(final String format) {
+        final List<Segment> segments = new ArrayList<>();
+        int argCount = 0;
+        int literalStart = 0;
+        int i = 0;
+        while (i < format.length()) {
+            if (format.charAt(i) != '%') {
+                i++;
+                continue;
+            }
+            if (i + 1 == format.length()) {
+                return unsupported(format);
+            }
+
+            final Segment conversion = conversion(format.charAt(i + 1));
+            if (conversion == null) {
+                return unsupported(format);
+            }
+
+            if (literalStart < i) {
+                segments.add(new Literal(format.substring(literalStart, i)));
+            }
+            segments.add(conversion);
+            if (conversion.consumesArg()) {
+                argCount++;
+            }
+            i += 2;
+            literalStart = i;
+        }
+        if (literalStart < format.length()) {
+            segments.add(new Literal(format.substring(literalStart)));
+        }
+        return new MessageTemplate(format, segments.toArray(new Segment[segments.size()]), argCount);
+    }
+
+    private static MessageTemplate unsupported(final String format) {
+        return new MessageTemplate(format, null, 0);
+    }
+
+    private static Segment conversion(final char conversion) {
+        switch (conversion) {
+            case 's':
+                return Segment.STRING;
+            case 'd':
+                return Segment.DECIMAL;
+            case 'b':
+                return Segment.BOOLEAN;
+            case 'x':
+                return Segment.HEX;
+            case '%':
+                return Segment.PERCENT;
+            case 'n':
+                return Segment.LINE_SEPARATOR;
+            default:
+                return null;
+        }
+    }
+
+    /* package */ boolean isCompiled() {
+        return segments != null;
+    }
+
+    /* package */ String format(final Object[] args) {
+        final StringBuilder out = new StringBuilder(format.length() + 16 * argCount);
+        formatTo(out, args);
+        return out.toString();
+    }
+
+    /**
+     * Appends the formatted message, producing exactly what {@link String#format} would.
+     */
+    /* package */ void formatTo(final StringBuilder out, final Object[] args) {
+        if (segments == null || (argCount > 0 && (args == null || args.length < argCount))) {
+            out.append(String.format(Locale.US, format, args));
+            return;
+        }
+
+        final int start = out.length();
+        int next = 0;
+        for (final Segment segment : segments) {
+            if (!segment.appendTo(out, args, next)) {
+                out.setLength(start);
+                out.append(String.format(Locale.US, format, args));
+                return;
+            }
+            if (segment.consumesArg()) {
+                next++;
+            }
+        }
+    }
+
+    private static abstract class Segment {
+        private static final Segment STRING = new Segment() {
+            @Override boolean appendTo(final StringBuilder out, final Object[] args, final int next) {
+                final Object arg = args[next];
+                if (arg instanceof Formattable) {
+                    return false;
+                }
+                out.append(arg);
+                return true;
+            }
+        };
+        private static final Segment DECIMAL = new Segment() {
+            @Override boolean appendTo(final StringBuilder out, final Object[] args, final int next) {
+                final Object arg = args[next];
+                if (arg == null) {
+                    out.append("null");
+                } else if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+                    out.append(((Number) arg).longValue());
+                } else if (arg instanceof BigInteger) {
+                    out.append(arg);
+                } else {
+                    return false;
+                }
+                return true;
+            }
+        };
+        private static final Segment BOOLEAN = new Segment() {
+            @Override boolean appendTo(final StringBuilder out, final Object[] args, final int next) {
+                final Object arg = args[next];
+                out.append(arg instanceof Boolean ? ((Boolean) arg).booleanValue() : arg != null);
+                return true;
+            }
+        };
+        private static final Segment HEX = new Segment() {
+            @Override boolean appendTo(final StringBuilder out, final Object[] args, final int next) {
+                final Object arg = args[next];
+                if (arg == null) {
+                    out.append("null");
+                } else if (arg instanceof Integer) {
+                    out.append(Integer.toHexString((Integer) arg));
+                } else if (arg instanceof Long) {
+                    out.append(Long.toHexString((Long) arg));
+                } else if (arg instanceof Short) {
+                    out.append(Integer.toHexString((Short) arg & 0xFFFF));
+                } else if (arg instanceof Byte) {
+                    out.append(Integer.toHexString((Byte) arg & 0xFF));
+                } else if (arg instanceof BigInteger) {
+                    out.append(((BigInteger) arg).toString(16));
+                } else {
+                    return false;
+                }
+                return true;
+            }
+        };
+        private static final Segment PERCENT = new Literal("%");
+        private static final Segment LINE_SEPARATOR = new Literal(System.getProperty("line.separator"));
+
+        /**
+         * @return false if the argument can't be rendered exactly as {@link String#format} would
+         */
+        abstract boolean appendTo(final StringBuilder out, final Object[] args, final int next);
+
+        boolean consumesArg() {
+            return true;
+        }
+    }
+
+    private static final class Literal extends Segment {
+        private final String text;
+
+        private Literal(final String text) {
+            this.text = text;
+        }
+
+        @Override boolean appendTo(final StringBuilder out, final Object[] args, final int next) {
+            out.append(text);
+            return true;
+        }
+
+        @Override boolean consumesArg() {
+            return false;
+        }
+    }
+}
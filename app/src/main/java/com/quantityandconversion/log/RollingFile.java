@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * A directory of size and age limited log segments, written in batches.
+ * <p>
+ * Text is encoded into a direct buffer and only written through the {@link FileChannel}
+ * when the buffer fills, the segment rolls, or the sync interval passes. Each sync interval
+ * the segment is also forced to disk. The oldest segments are deleted to stay within
+ * the total size limit.
+ * <p>
+ * I/O failures never reach the logging thread; the batch is dropped, counted,
+ * and the next append starts a new segment.
+ * <p>
+ * Segments it is done with can be handed to a {@link LogArchiver}.
+ */
+/* package */ final class RollingFile {
+//Understands keeping log output on disk within limits
+
+    /* package */ static final String SEGMENT_PREFIX = "fyzlog-";
+    /* package */ static final String SEGMENT_SUFFIX = ".log";
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+    private static final int MIN_BUFFER_BYTES = 16;
+
+    private final File directory;
+    private final long maxFileBytes;
+    private final long maxFileAgeMillis;
+    private final long maxTotalBytes;
+    private final long syncIntervalMillis;
+    private final ByteBuffer buffer;
+    private final Timer syncTimer;
+
+    private LogArchiver archiver;
+    private File current;
+    private FileChannel channel;
+    private long openedAtMillis;
+    private long fileBytes;
+    private boolean dirty;
+    private long failures;
+
+    /* package */ RollingFile(final File directory, final long maxFileBytes, final long maxFileAgeMillis, final long maxTotalBytes, final long syncIntervalMillis) {
+        this(directory, DEFAULT_BUFFER_BYTES, maxFileBytes, maxFileAgeMillis, maxTotalBytes, syncIntervalMillis);
+    }
+
+    /**
+     * @param syncIntervalMillis how often buffered output is written and forced to disk;
+     *                           zero or less writes and forces on every append
+     */
+    /* package */ RollingFile(final File directory, final int bufferBytes, final long maxFileBytes, final long maxFileAgeMillis, final long maxTotalBytes, final long syncIntervalMillis) {
+        if (maxFileBytes <= 0 || maxTotalBytes < maxFileBytes) {
+            throw new IllegalArgumentException("RollingFile needs 0 < maxFileBytes <= maxTotalBytes");
+        }
+        if (bufferBytes < MIN_BUFFER_BYTES) {
+            throw new IllegalArgumentException("RollingFile needs a buffer of at least " + MIN_BUFFER_BYTES + " bytes");
+        }
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFileAgeMillis = maxFileAgeMillis;
+        this.maxTotalBytes = maxTotalBytes;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        if (syncIntervalMillis > 0) {
+            syncTimer = new Timer("FyzLog-file-sync", true);
+            syncTimer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    sync();
+                }
+            }, syncIntervalMillis, syncIntervalMillis);
+        } else {
+            syncTimer = null;
+        }
+    }
+
+    /* package */ synchronized void append(final CharSequence text) {
+        try {
+            rollIfNeeded(System.currentTimeMillis());
+            int next = 0;
+            while (next < text.length()) {
+                next = Utf8.encode(text, next, text.length(), buffer);
+                if (next < text.length()) {
+                    drain();
+                }
+            }
+            fileBytes += Utf8.encodedLength(text, 0, text.length());
+            dirty = true;
+            if (syncIntervalMillis <= 0) {
+                drain();
+                channel.force(false);
+                dirty = false;
+            }
+        } catch (final IOException e) {
+            fail();
+        }
+    }
+
+    /**
+     * Rolls to a new segment if the current one is full, too old, or has failed.
+     * <p>
+     * Callers writing segments that must describe themselves hold this file's lock
+     * across this and the {@link #append(ByteBuffer)} that follows.
+     *
+     * @return true if the next append starts a new segment
+     */
+    /* package */ synchronized boolean rollIfNeeded() {
+        try {
+            return rollIfNeeded(System.currentTimeMillis());
+        } catch (final IOException e) {
+            fail();
+            return true;
+        }
+    }
+
+    /**
+     * Appends to the current segment without rolling; see {@link #rollIfNeeded()}.
+     */
+    /* package */ synchronized void append(final ByteBuffer bytes) {
+        if (channel == null) {
+            failures++;
+            return;
+        }
+        try {
+            fileBytes += bytes.remaining();
+            while (bytes.hasRemaining()) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                final int limit = bytes.limit();
+                bytes.limit(bytes.position() + Math.min(bytes.remaining(), buffer.remaining()));
+                buffer.put(bytes);
+                bytes.limit(limit);
+            }
+            dirty = true;
+            if (syncIntervalMillis <= 0) {
+                drain();
+                channel.force(false);
+                dirty = false;
+            }
+        } catch (final IOException e) {
+            fail();
+        }
+    }
+
+    /**
+     * Writes anything buffered and forces it to disk.
+     */
+    /* package */ synchronized void sync() {
+        if (!dirty || channel == null) {
+            return;
+        }
+        try {
+            drain();
+            channel.force(false);
+            dirty = false;
+        } catch (final IOException e) {
+            fail();
+        }
+    }
+
+    /* package */ synchronized void close() {
+        if (syncTimer != null) {
+            syncTimer.cancel();
+        }
+        sync();
+        closeCurrent();
+    }
+
+    /**
+     * Hands each segment to {@code archiver} once it is closed for good.
+     */
+    /* package */ synchronized void archiveTo(final LogArchiver archiver) {
+        this.archiver = archiver;
+    }
+
+    /**
+     * @return the segment being written, or null before the first append and after a failure
+     */
+    /* package */ synchronized File current() {
+        return current;
+    }
+
+    /* package */ synchronized long failures() {
+        return failures;
+    }
+
+    /**
+     * @return the completed and current segments, oldest first
+     */
+    /* package */ File[] segments() {
+        final File[] segments = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }
+        });
+        if (segments == null) {
+            return new File[0];
+        }
+        Arrays.sort(segments);
+        return segments;
+    }
+
+    private boolean rollIfNeeded(final long nowMillis) throws IOException {
+        if (channel != null && fileBytes < maxFileBytes && nowMillis - openedAtMillis < maxFileAgeMillis) {
+            return false;
+        }
+
+        if (channel != null) {
+            drain();
+            channel.force(false);
+            dirty = false;
+            closeCurrent();
+        }
+        open(nowMillis);
+        enforceTotalSize();
+        return true;
+    }
+
+    private void open(final long nowMillis) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        long stamp = nowMillis;
+        File file = segmentFor(stamp);
+        while (file.exists()) {
+            file = segmentFor(++stamp);
+        }
+        channel = new FileOutputStream(file, true).getChannel();
+        current = file;
+        openedAtMillis = nowMillis;
+        fileBytes = 0;
+    }
+
+    private File segmentFor(final long stamp) {
+        return new File(directory, String.format(Locale.US, "%s%013d%s", SEGMENT_PREFIX, stamp, SEGMENT_SUFFIX));
+    }
+
+    private void enforceTotalSize() {
+        final File[] segments = segments();
+        long total = 0;
+        for (final File segment : segments) {
+            total += segment.length();
+        }
+        for (int i = 0; i < segments.length && total > maxTotalBytes - maxFileBytes; i++) {
+            if (segments[i].equals(current)) {
+                continue;
+            }
+            final long length = segments[i].length();
+            if (segments[i].delete()) {
+                total -= length;
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void fail() {
+        failures++;
+        buffer.clear();
+        dirty = false;
+        closeCurrent();
+    }
+
+    private void closeCurrent() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException ignored) {
+                //Nothing left to lose
+            }
+        }
+        if (current != null && archiver != null) {
+            archiver.archive(current);
+        }
+        channel = null;
+        current = null;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The sampling and rate limit state of one {@link CallSite} under one {@link Throttle}.
+ * <p>
+ * The token bucket is kept as the time the bucket will next be full (GCRA), so taking a
+ * token is a single compare-and-set and no lock is taken. What was suppressed is kept
+ * with where to report it, so the count can be written once the site has gone quiet.
+ */
+/* package */ final class SiteThrottle {
+//Understands how much a call site has logged lately
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final CallSite site;
+    private final AtomicLong seen = new AtomicLong();
+    private final AtomicLong fullAt = new AtomicLong(UNSET);
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong lastSummaryNanos = new AtomicLong();
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private volatile Report report;
+
+    /* package */ SiteThrottle(final CallSite site) {
+        this.site = site;
+    }
+
+    /* package */ boolean admit(final Throttle.Limit limit, final long nowNanos) {
+        if (limit.sampleEvery > 1 && seen.getAndIncrement() % limit.sampleEvery != 0) {
+            return false;
+        }
+        if (limit.intervalNanos == 0) {
+            return true;
+        }
+        while (true) {
+            final long current = fullAt.get();
+            final long start = current == UNSET || current - nowNanos < 0 ? nowNanos : current;
+            if (start - nowNanos > limit.toleranceNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, start + limit.intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Counts a suppressed message, remembering where its count is to be written.
+     *
+     * @return true if this needs adding to the sites whose counts are waiting to be written
+     */
+    /* package */ boolean suppressed(final Logger logger, final LogLevel level, final LogLevel logLevel, final long nowNanos) {
+        final Report current = report;
+        if (current == null || current.logger != logger || current.level != level || current.logLevel != logLevel) {
+            report = new Report(logger, level, logLevel);
+        }
+        if (suppressed.getAndIncrement() == 0) {
+            lastSummaryNanos.set(nowNanos);
+        }
+        return queued.compareAndSet(false, true);
+    }
+
+    /**
+     * @return the suppressed count to report, zero if nothing is due
+     */
+    /* package */ long takeSuppressed(final long nowNanos, final long summaryNanos, final boolean admitted) {
+        if (suppressed.get() == 0) {
+            return 0;
+        }
+        final long last = lastSummaryNanos.get();
+        if (!admitted && nowNanos - last < summaryNanos) {
+            return 0;
+        }
+        if (!lastSummaryNanos.compareAndSet(last, nowNanos)) {
+            return 0;
+        }
+        return suppressed.getAndSet(0);
+    }
+
+    /**
+     * Writes {@code count} suppressed messages to where the last one was headed.
+     */
+    /* package */ void writeSuppressed(final long count, final String threadName) {
+        final Report report = this.report;
+        report.logger.write(report.level, report.logLevel, site, threadName, Throttle.SUPPRESSED_FORMAT,
+                new Object[]{count, site.className(), site.methodName()});
+    }
+
+    /**
+     * @return true if nothing is waiting to be written, so this can leave the waiting sites
+     */
+    /* package */ boolean unqueue() {
+        queued.set(false);
+        return suppressed.get() == 0 || !queued.compareAndSet(false, true);
+    }
+
+    private static final class Report {
+        private final Logger logger;
+        private final LogLevel level;
+        private final LogLevel logLevel;
+
+        private Report(final Logger logger, final LogLevel level, final LogLevel logLevel) {
+            this.logger = logger;
+            this.level = level;
+            this.logLevel = logLevel;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed set of counters, striped by thread so concurrent writers rarely share a cache line.
+ * <p>
+ * Each stripe holds every counter, padded to whole cache lines; a thread always adds
+ * to the same stripe and a read sums across them. Reads are not a consistent snapshot
+ * of all counters while they are being written.
+ */
+/* package */ final class StripedCounters {
+//Understands counting from many threads without them contending
+
+    private static final int LONGS_PER_LINE = 8;
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLongArray cells;
+    private final int width;
+    private final int mask;
+
+    /* package */ StripedCounters(final int counters) {
+        final int minStripes = Runtime.getRuntime().availableProcessors() * 2;
+        int stripes = 1;
+        while (stripes < minStripes && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        //A line of padding after each stripe keeps neighbours apart whatever the array's alignment
+        this.width = ((counters + LONGS_PER_LINE - 1) / LONGS_PER_LINE + 1) * LONGS_PER_LINE;
+        this.mask = stripes - 1;
+        this.cells = new AtomicLongArray(stripes * width);
+    }
+
+    /* package */ void add(final int counter, final long delta) {
+        cells.getAndAdd(stripe() + counter, delta);
+    }
+
+    /* package */ long sum(final int counter) {
+        long sum = 0;
+        for (int cell = counter; cell < cells.length(); cell += width) {
+            sum += cells.get(cell);
+        }
+        return sum;
+    }
+
+    private int stripe() {
+        //Thread ids are handed out in sequence, so neighbouring threads land on different stripes
+        return ((int) Thread.currentThread().getId() & mask) * width;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per call site rate limits and sampling, configured per {@link LogLevel}.
+ * <p>
+ * Sampling lets one in every N messages from a site through; the rate limit is a token
+ * bucket refilled at a steady rate up to a burst. Both are checked before the message is
+ * formatted. How many were suppressed is written from the site, at the same level,
+ * before its next message that gets through, and at least every summary interval
+ * while it keeps being suppressed, from a background thread if the site has gone quiet.
+ * <p>
+ * Instances are immutable apart from the state kept per site, which is keyed by
+ * {@link CallSite#frame()} and starts afresh under a new instance. Counts still
+ * waiting when an instance is replaced are written all the same.
+ */
+/* package */ final class Throttle {
+//Understands keeping a chatty call site from drowning out the rest
+
+    /* package */ static final String SUPPRESSED_FORMAT = "%d messages suppressed from %s.%s";
+    private static final long DEFAULT_SUMMARY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int LEVELS = 8;
+    private static final int MAX_SITES = 512;
+
+    /* package */ static final Throttle NONE = new Throttle(new Limit[LEVELS], DEFAULT_SUMMARY_NANOS);
+
+    private static Timer summarizer;
+
+    private final Limit[] limits;
+    private final long summaryNanos;
+    private final long summaryMillis;
+    private final boolean empty;
+    private final ConcurrentHashMap<StackTraceElement, SiteThrottle> sites = new ConcurrentHashMap<>();
+    private final Queue<SiteThrottle> waiting = new ConcurrentLinkedQueue<>();
+    private TimerTask summarize;
+
+    private Throttle(final Limit[] limits, final long summaryNanos) {
+        this.limits = limits;
+        this.summaryNanos = summaryNanos;
+        this.summaryMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(summaryNanos));
+        boolean empty = true;
+        for (final Limit limit : limits) {
+            empty = empty && limit == null;
+        }
+        this.empty = empty;
+    }
+
+    /**
+     * Lets {@code permitsPerSecond} through from each site at {@code level}, after an initial {@code burst}.
+     */
+    /* package */ Throttle limit(final LogLevel level, final double permitsPerSecond, final int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Throttle needs a positive rate and a burst of at least 1");
+        }
+        final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        final Limit current = limits[level.level()];
+        return with(level, new Limit(current == null ? 1 : current.sampleEvery, intervalNanos, (burst - 1) * intervalNanos));
+    }
+
+    /**
+     * Lets one in every {@code every} messages from each site at {@code level} through.
+     */
+    /* package */ Throttle sample(final LogLevel level, final int every) {
+        if (every < 1) {
+            throw new IllegalArgumentException("Throttle needs to sample at least 1 in 1");
+        }
+        final Limit current = limits[level.level()];
+        return with(level, new Limit(every, current == null ? 0 : current.intervalNanos, current == null ? 0 : current.toleranceNanos));
+    }
+
+    /* package */ Throttle unlimited(final LogLevel level) {
+        return with(level, null);
+    }
+
+    /* package */ Throttle summaryEvery(final long millis) {
+        return new Throttle(limits, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * This, with {@code level} sampled and limited as {@code other} does it.
+     */
+    /* package */ Throttle withLimitOf(final LogLevel level, final Throttle other) {
+        return with(level, other.limits[level.level()]);
+    }
+
+    /**
+     * This, summarizing as often as {@code other} does.
+     */
+    /* package */ Throttle withSummaryOf(final Throttle other) {
+        return new Throttle(limits, other.summaryNanos);
+    }
+
+    /* package */ boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * @return whether messages at {@code level} are sampled or rate limited, so their caller is needed
+     */
+    /* package */ boolean limits(final LogLevel level) {
+        return limits[level.level()] != null;
+    }
+
+    /**
+     * @return false if the message should be suppressed; its count is then written to {@code logger}
+     */
+    /* package */ boolean admit(final Logger logger, final LogLevel level, final LogLevel logLevel, final CallSite site) {
+        final Limit limit = limits[level.level()];
+        if (limit == null) {
+            return true;
+        }
+        final SiteThrottle state = state(site);
+        final long nowNanos = System.nanoTime();
+        if (state.admit(limit, nowNanos)) {
+            return true;
+        }
+        if (state.suppressed(logger, level, logLevel, nowNanos)) {
+            waiting.add(state);
+            startSummarizing();
+        }
+        return false;
+    }
+
+    /**
+     * @return how many suppressed messages should be reported now, if any
+     */
+    /* package */ long takeSuppressed(final LogLevel level, final CallSite site, final boolean admitted) {
+        if (limits[level.level()] == null) {
+            return 0;
+        }
+        return state(site).takeSuppressed(System.nanoTime(), summaryNanos, admitted);
+    }
+
+    /**
+     * The state of {@code site}; when the limit on sites is reached they all start afresh,
+     * though what they had suppressed is still written.
+     */
+    private SiteThrottle state(final CallSite site) {
+        final StackTraceElement frame = site.frame();
+        final SiteThrottle cached = sites.get(frame);
+        if (cached != null) {
+            return cached;
+        }
+        if (sites.size() >= MAX_SITES) {
+            sites.clear();
+        }
+        final SiteThrottle state = new SiteThrottle(site);
+        final SiteThrottle raced = sites.putIfAbsent(frame, state);
+        return raced != null ? raced : state;
+    }
+
+    private synchronized void startSummarizing() {
+        if (summarize != null) {
+            return;
+        }
+        summarize = new TimerTask() {
+            @Override
+            public void run() {
+                summarize();
+            }
+        };
+        summarizer().schedule(summarize, summaryMillis, summaryMillis);
+    }
+
+    private void summarize() {
+        final long nowNanos = System.nanoTime();
+        final String threadName = Thread.currentThread().getName();
+        for (final Iterator<SiteThrottle> it = waiting.iterator(); it.hasNext(); ) {
+            final SiteThrottle state = it.next();
+            final long suppressed = state.takeSuppressed(nowNanos, summaryNanos, false);
+            if (suppressed > 0) {
+                state.writeSuppressed(suppressed, threadName);
+            } else if (state.unqueue()) {
+                it.remove();
+            }
+        }
+        synchronized (this) {
+            if (waiting.isEmpty()) {
+                summarize.cancel();
+                summarize = null;
+            }
+        }
+    }
+
+    private static synchronized Timer summarizer() {
+        if (summarizer == null) {
+            summarizer = new Timer("FyzLog-throttle", true);
+        }
+        return summarizer;
+    }
+
+    private Throttle with(final LogLevel level, final Limit limit) {
+        final Limit[] limits = this.limits.clone();
+        limits[level.level()] = limit;
+        return new Throttle(limits, summaryNanos);
+    }
+
+    /* package */ static final class Limit {
+        /* package */ final long sampleEvery;
+        /* package */ final long intervalNanos;
+        /* package */ final long toleranceNanos;
+
+        private Limit(final long sampleEvery, final long intervalNanos, final long toleranceNanos) {
+            this.sampleEvery = sampleEvery;
+            this.intervalNanos = intervalNanos;
+            this.toleranceNanos = toleranceNanos;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Appends "yyyy-MM-dd HH:mm:ss.SSS" in the default time zone.
+ * <p>
+ * The date and time up to the second is formatted once per second per thread.
+ */
+/* package */ final class Timestamp {
+//Understands writing wall clock times cheaply
+
+    private static final ThreadLocal<Timestamp> timestamps = new ThreadLocal<Timestamp>() {
+        @Override
+        protected Timestamp initialValue() {
+            return new Timestamp();
+        }
+    };
+
+    private final SimpleDateFormat secondFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.", Locale.US);
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedSecondText;
+
+    private Timestamp() {
+    }
+
+    /* package */ static void appendTo(final StringBuilder out, final long millis) {
+        timestamps.get().append(out, millis);
+    }
+
+    private void append(final StringBuilder out, final long millis) {
+        final long second = millis >= 0 ? millis / 1000 : (millis - 999) / 1000;
+        if (second != cachedSecond) {
+            cachedSecondText = secondFormat.format(new Date(second * 1000));
+            cachedSecond = second;
+        }
+        final int millisOfSecond = (int) (millis - second * 1000);
+        out.append(cachedSecondText);
+        if (millisOfSecond < 100) out.append('0');
+        if (millisOfSecond < 10) out.append('0');
+        out.append(millisOfSecond);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8 encoding straight from a {@link CharSequence} into a {@link ByteBuffer}.
+ * <p>
+ * Unpaired surrogates are written as '?', as {@link String#getBytes} does.
+ */
+/* package */ final class Utf8 {
+//Understands encoding text without intermediate arrays
+
+    private Utf8() {
+    }
+
+    /**
+     * Encodes {@code chars[start, end)} until {@code out} has no room for the next code point.
+     *
+     * @return the index of the first char not encoded
+     */
+    /* package */ static int encode(final CharSequence chars, final int start, final int end, final ByteBuffer out) {
+        int i = start;
+        while (i < end) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                if (!out.hasRemaining()) return i;
+                out.put((byte) c);
+                i++;
+            } else if (c < 0x800) {
+                if (out.remaining() < 2) return i;
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+                i++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                if (out.remaining() < 4) return i;
+                final int codePoint = Character.toCodePoint(c, chars.charAt(i + 1));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+                i += 2;
+            } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+                if (!out.hasRemaining()) return i;
+                out.put((byte) '?');
+                i++;
+            } else {
+                if (out.remaining() < 3) return i;
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * @return how many bytes {@link #encode} writes for {@code chars[start, end)}
+     */
+    /* package */ static int encodedLength(final CharSequence chars, final int start, final int end) {
+        int length = 0;
+        int i = start;
+        while (i < end) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+            i++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class AsyncLoggerTests {
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+
+    private AsyncLogger asyncLogger;
+
+    @After
+    public void teardown() throws InterruptedException {
+        FyzLog.writeToLog();
+        if (asyncLogger != null) {
+            asyncLogger.shutdown();
+        }
+    }
+
+    /**
+     * Records messages, optionally holding the consumer until released.
+     */
+    private static final class RecordingLogger extends Logger {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+        private final CountDownLatch release;
+
+        private RecordingLogger(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+            return true;
+        }
+
+        @Override
+        void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(MessageTemplate.of(msgFormat).format(args));
+        }
+    }
+
+    @Test
+    public void writesWithTheCallerAndThreadOfTheLoggingThread() {
+        asyncLogger = new AsyncLogger(Logger.SystemOut, 16, BackPressure.BLOCK);
+        FyzLog.writeTo(asyncLogger);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        systemOutRule.clearLog();
+
+        FyzLog.d("%s %d", "it", 2357);
+        asyncLogger.flush();
+
+        assertThat(systemOutRule.getLog()).isEqualTo("D@V/ FYZ:AsyncLoggerTests [main] writesWithTheCallerAndThreadOfTheLoggingThread : it 2357\n");
+    }
+
+    @Test
+    public void blockingDeliversEverythingInOrder() {
+        final RecordingLogger sink = new RecordingLogger(new CountDownLatch(0));
+        asyncLogger = new AsyncLogger(sink, 4, BackPressure.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            asyncLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "main", "%d", new Object[]{i});
+        }
+        asyncLogger.flush();
+
+        assertThat(sink.messages).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sink.messages.get(i)).isEqualTo(String.valueOf(i));
+        }
+        assertThat(asyncLogger.dropped()).isEqualTo(0);
+    }
+
+    @Test
+    public void dropNewestKeepsTheOldest() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingLogger sink = new RecordingLogger(release);
+        asyncLogger = new AsyncLogger(sink, 4, BackPressure.DROP_NEWEST);
+        final LogMetrics metrics = new LogMetrics();
+        asyncLogger.recordMetricsTo(metrics);
+
+        for (int i = 0; i < 20; i++) {
+            asyncLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "main", "%d", new Object[]{i});
+        }
+        release.countDown();
+        asyncLogger.flush();
+
+        //The consumer may be holding one event while the ring fills
+        assertThat(sink.messages.size()).isBetween(4, 5);
+        assertThat(sink.messages.get(0)).isEqualTo("0");
+        assertThat(asyncLogger.dropped()).isEqualTo(20 - sink.messages.size());
+        assertThat(metrics.snapshot().dropped()).isEqualTo(asyncLogger.dropped());
+    }
+
+    @Test
+    public void dropOldestKeepsTheNewest() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingLogger sink = new RecordingLogger(release);
+        asyncLogger = new AsyncLogger(sink, 4, BackPressure.DROP_OLDEST);
+        final LogMetrics metrics = new LogMetrics();
+        asyncLogger.recordMetricsTo(metrics);
+
+        for (int i = 0; i < 20; i++) {
+            asyncLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "main", "%d", new Object[]{i});
+        }
+        release.countDown();
+        asyncLogger.flush();
+
+        assertThat(sink.messages).contains("16", "17", "18", "19");
+        assertThat(asyncLogger.dropped()).isEqualTo(20 - sink.messages.size());
+        assertThat(metrics.snapshot().dropped()).isEqualTo(asyncLogger.dropped());
+    }
+
+    @Test
+    public void multipleProducersLoseNothing() throws InterruptedException {
+        final RecordingLogger sink = new RecordingLogger(new CountDownLatch(0));
+        asyncLogger = new AsyncLogger(sink, 64, BackPressure.BLOCK);
+        final int producers = 4;
+        final int perProducer = 5000;
+
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perProducer; i++) {
+                        asyncLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "producer", "%d-%d", new Object[]{producer, i});
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        asyncLogger.flush();
+
+        assertThat(sink.messages).hasSize(producers * perProducer);
+        assertThat(sink.messages).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void writesOnTheLoggingThreadAfterShutdown() throws InterruptedException {
+        final RecordingLogger sink = new RecordingLogger(new CountDownLatch(0));
+        final AsyncLogger stopped = new AsyncLogger(sink, 4, BackPressure.BLOCK);
+        stopped.shutdown();
+
+        stopped.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "main", "after", null);
+
+        assertThat(sink.messages).containsExactly("after");
+    }
+
+    @Test
+    public void aSinkThrowingAnErrorDoesNotStopTheConsumer() {
+        final List<String> written = Collections.synchronizedList(new ArrayList<String>());
+        asyncLogger = new AsyncLogger(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return true;
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                if (written.add(msgFormat) && written.size() == 1) {
+                    throw new AssertionError("sink failed");
+                }
+            }
+        }, 2, BackPressure.BLOCK);
+
+        for (final String message : new String[]{"fails", "a", "b", "c", "d"}) {
+            asyncLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.UNKNOWN, "main", message, null);
+        }
+        asyncLogger.flush();
+
+        assertThat(written).containsExactly("fails", "a", "b", "c", "d");
+    }
+}
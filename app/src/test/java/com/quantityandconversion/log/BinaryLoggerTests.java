@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class BinaryLoggerTests {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private RollingFile rollingFile;
+
+    @After
+    public void teardown() {
+        FyzLog.writeToLog();
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        if (rollingFile != null) {
+            rollingFile.close();
+        }
+    }
+
+    private static List<String> decode(final File segment) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final BinaryLogReader reader = new BinaryLogReader(new FileInputStream(segment));
+        try {
+            while (reader.next()) {
+                lines.add(reader.systemOutLine());
+            }
+        } finally {
+            reader.close();
+        }
+        return lines;
+    }
+
+    private void logEverything() {
+        FyzLog.v("the message");
+        FyzLog.d("%s %d %b %s", "it", 2357, true, "is");
+        FyzLog.i("%d %d %d %x", (byte) -1, (short) -300, Long.MIN_VALUE, new BigInteger("-255"));
+        FyzLog.w("%.3f %.1f %c %s", 3.14159, 2.5f, 'z', Arrays.asList(1, 2));
+        FyzLog.e("%s and %s", null, "not null");
+        FyzLog.wtf("%s", "the message");
+        FyzLog.i("%.2f on %tF", new BigDecimal("1.005"), new Date(0));
+    }
+
+    @Test
+    public void decodesToExactlyWhatSystemOutWrites() throws IOException {
+        FyzLog.updateCurrentLogLevel(LogLevel.DEBUG);
+        FyzLog.writeToSystem();
+        systemOutRule.clearLog();
+        logEverything();
+        final String systemOut = systemOutRule.getLog();
+
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, HOUR);
+        final BinaryLogger binaryLogger = new BinaryLogger(rollingFile);
+        //SystemOut writes every level, so the binary log has to be asked for every level too
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeTo(binaryLogger);
+        logEverything();
+        binaryLogger.sync();
+
+        final StringBuilder decoded = new StringBuilder();
+        for (final String line : decode(rollingFile.segments()[0])) {
+            decoded.append(line).append('\n');
+        }
+        assertThat(decoded.toString()).isEqualTo(systemOut.replace("@D/", "@V/"));
+    }
+
+    private void logEvents() {
+        FyzLog.atInfo().kv("userId", 42L).kv("ratio", 0.5).kv("cached", true).kv("name", "100% sure").log("request done");
+        FyzLog.atWarn().kv("retries", 3).log(null);
+    }
+
+    @Test
+    public void decodesEventsToExactlyWhatSystemOutWrites() throws IOException {
+        FyzLog.writeToSystem();
+        systemOutRule.clearLog();
+        logEvents();
+        final String systemOut = systemOutRule.getLog();
+
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, HOUR);
+        final BinaryLogger binaryLogger = new BinaryLogger(rollingFile);
+        FyzLog.writeTo(binaryLogger);
+        logEvents();
+        binaryLogger.sync();
+
+        final StringBuilder decoded = new StringBuilder();
+        for (final String line : decode(rollingFile.segments()[0])) {
+            decoded.append(line).append('\n');
+        }
+        assertThat(decoded.toString()).isEqualTo(systemOut);
+    }
+
+    @Test
+    public void keepsUnicodeArguments() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, 0);
+        FyzLog.writeTo(new BinaryLogger(rollingFile));
+
+        FyzLog.d("%s", "caf\u00e9 \u20ac \ud83d\ude00");
+
+        final BinaryLogReader reader = new BinaryLogReader(new FileInputStream(rollingFile.segments()[0]));
+        try {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.args()).containsExactly("caf\u00e9 \u20ac \ud83d\ude00");
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void everySegmentDefinesWhatItUses() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 16, 64, HOUR, 64 * 1024, 0);
+        final BinaryLogger binaryLogger = new BinaryLogger(rollingFile);
+        FyzLog.writeTo(binaryLogger);
+
+        for (int i = 0; i < 20; i++) {
+            FyzLog.d("repeated %d", i);
+        }
+
+        final File[] segments = rollingFile.segments();
+        assertThat(segments.length).isGreaterThan(1);
+        int events = 0;
+        for (final File segment : segments) {
+            for (final String line : decode(segment)) {
+                assertThat(line).startsWith("D@V/ FYZ:BinaryLoggerTests [main] everySegmentDefinesWhatItUses : repeated ");
+                events++;
+            }
+        }
+        assertThat(events).isEqualTo(20);
+    }
+
+    @Test
+    public void stopsAtATruncatedRecord() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, 0);
+        FyzLog.writeTo(new BinaryLogger(rollingFile));
+        FyzLog.d("first");
+        FyzLog.d("second %s", "with an argument");
+        final File segment = rollingFile.segments()[0];
+
+        final FileOutputStream truncate = new FileOutputStream(segment, true);
+        try {
+            truncate.getChannel().truncate(segment.length() - 3);
+        } finally {
+            truncate.close();
+        }
+
+        assertThat(decode(segment)).containsExactly("D@V/ FYZ:BinaryLoggerTests [main] stopsAtATruncatedRecord : first");
+    }
+
+    @Test
+    public void readsOnPastAMessageItCannotFormat() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, 0);
+        final BinaryLogger binaryLogger = new BinaryLogger(rollingFile);
+        final CallSite site = CallSite.of(BinaryLoggerTests.class.getName(), "log");
+        binaryLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, site, "main", "%d items", new Object[]{"several"});
+        binaryLogger.write(LogLevel.DEBUG, LogLevel.VERBOSE, site, "main", "%d items", new Object[]{3});
+        binaryLogger.sync();
+
+        assertThat(decode(rollingFile.segments()[0])).containsExactly(
+                "D@V/ FYZ:BinaryLoggerTests [main] log : %d items [several]",
+                "D@V/ FYZ:BinaryLoggerTests [main] log : 3 items");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsFilesThatAreNotBinaryLogs() throws IOException {
+        final File notALog = folder.newFile();
+        final FileOutputStream out = new FileOutputStream(notALog);
+        try {
+            out.write("plain text".getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+
+        new BinaryLogReader(new FileInputStream(notALog));
+    }
+}
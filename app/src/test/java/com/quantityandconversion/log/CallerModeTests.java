@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class CallerModeTests {
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+
+    @Before
+    public void setup() {
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToSystem();
+        systemOutRule.clearLog();
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    @Test
+    public void alwaysReportsTheCallingClassAndMethod() {
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+
+        FyzLog.d("message");
+
+        assertThat(systemOutRule.getLog()).isEqualTo("D@V/ FYZ:CallerModeTests [main] alwaysReportsTheCallingClassAndMethod : message\n");
+    }
+
+    @Test
+    public void alwaysReportsTheSameSiteForRepeatedCalls() {
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+
+        for (int i = 0; i < 3; i++) {
+            FyzLog.i("message");
+        }
+
+        final String line = "I@V/ FYZ:CallerModeTests [main] alwaysReportsTheSameSiteForRepeatedCalls : message\n";
+        assertThat(systemOutRule.getLog()).isEqualTo(line + line + line);
+    }
+
+    @Test
+    public void usesTheCallerTheBuildNamedOnce() {
+        final String msgFormat = "polled %d";
+
+        FyzLog.caller("com.example.sync.Poller", "poll", msgFormat);
+        FyzLog.d(msgFormat, 1);
+        FyzLog.d(msgFormat, 2);
+
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "D@V/ FYZ:Poller [main] poll : polled 1\n"
+                        + "D@V/ FYZ:CallerModeTests [main] usesTheCallerTheBuildNamedOnce : polled 2\n");
+    }
+
+    @Test
+    public void ignoresACallerNamedForAnotherMessage() {
+        FyzLog.caller("com.example.sync.Poller", "poll", "polled %d");
+
+        FyzLog.d("message");
+
+        assertThat(systemOutRule.getLog()).isEqualTo("D@V/ FYZ:CallerModeTests [main] ignoresACallerNamedForAnotherMessage : message\n");
+    }
+
+    @Test
+    public void forgetsACallerNamedForAFilteredMessage() {
+        final String msgFormat = "polled %d";
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                System.out.println(site.tag() + " " + site.methodName());
+            }
+        });
+        FyzLog.updateCurrentLogLevel(LogLevel.INFO);
+
+        FyzLog.caller("com.example.sync.Poller", "poll", msgFormat);
+        FyzLog.d(msgFormat, 1);
+        FyzLog.i(msgFormat, 2);
+
+        assertThat(systemOutRule.getLog()).isEqualTo("FYZ:CallerModeTests forgetsACallerNamedForAFilteredMessage\n");
+    }
+
+    @Test
+    public void forgetsACallerNamedForAMessageThatDidNotResolveOne() {
+        final String msgFormat = "polled %d";
+        FyzLog.updateCallerMode(CallerMode.WARN_AND_ABOVE);
+
+        FyzLog.caller("com.example.sync.Poller", "poll", msgFormat);
+        FyzLog.i(msgFormat, 1);
+        FyzLog.w(msgFormat, 2);
+
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "I@V/ FYZ:FyzLog [main] unknown : polled 1\n" +
+                        "W@V/ FYZ:CallerModeTests [main] forgetsACallerNamedForAMessageThatDidNotResolveOne : polled 2\n");
+    }
+
+    @Test
+    public void neverReportsTheUnknownSite() {
+        FyzLog.updateCallerMode(CallerMode.NEVER);
+
+        FyzLog.e("message");
+
+        assertThat(systemOutRule.getLog()).isEqualTo("E@V/ FYZ:FyzLog [main] unknown : message\n");
+    }
+
+    @Test
+    public void warnAndAboveOnlyResolvesWarnAndAbove() {
+        FyzLog.updateCallerMode(CallerMode.WARN_AND_ABOVE);
+
+        FyzLog.i("message");
+        FyzLog.w("message");
+
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "I@V/ FYZ:FyzLog [main] unknown : message\n" +
+                        "W@V/ FYZ:CallerModeTests [main] warnAndAboveOnlyResolvesWarnAndAbove : message\n");
+    }
+
+    @Test
+    public void sitesInTheSameClassShareATag() {
+        final CallSite first = CallSite.of("com.example.sync.SyncManager", "start");
+        final CallSite second = CallSite.of("com.example.sync.SyncManager", "stop");
+
+        assertThat(first.tag()).isEqualTo("FYZ:SyncManager");
+        assertThat(second.tag()).isSameAs(first.tag());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class CoalescingTests {
+
+    private static final long HOURS = 60 * 60 * 1000;
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setup() {
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(level.tag() + " [" + threadName + "] " + MessageTemplate.of(msgFormat).format(args));
+            }
+        });
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.updateCoalescing(Coalescing.NONE);
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+        FyzLog.writeToLog();
+    }
+
+    private static void pollFailed(final int times, final String reason) {
+        for (int i = 0; i < times; i++) {
+            FyzLog.e("poll failed: %s", reason);
+        }
+    }
+
+    @Test
+    public void writesEveryRepeatByDefault() {
+        pollFailed(3, "timeout");
+
+        assertThat(written).hasSize(3);
+    }
+
+    @Test
+    public void collapsesRepeatsIntoOneLineAndACount() {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+
+        pollFailed(5, "timeout");
+        FyzLog.i("recovered");
+
+        assertThat(written).containsExactly(
+                "E [main] poll failed: timeout",
+                "E [main] last message repeated 4 times",
+                "I [main] recovered");
+    }
+
+    private static void report(final Object state) {
+        FyzLog.i("state: %s", state);
+    }
+
+    @Test
+    public void theSameChangeableArgumentIsNotARepeat() {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+        final StringBuilder state = new StringBuilder("starting");
+
+        report(state);
+        state.setLength(0);
+        state.append("running");
+        report(state);
+
+        assertThat(written).containsExactly("I [main] state: starting", "I [main] state: running");
+    }
+
+    @Test
+    public void messagesFromAnUnknownSiteAreNotRepeats() {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+        FyzLog.updateCallerMode(CallerMode.NEVER);
+
+        FyzLog.e("%s", "failed");
+        FyzLog.e("%s", "failed");
+
+        assertThat(written).containsExactly("E [main] failed", "E [main] failed");
+    }
+
+    @Test
+    public void differentArgumentsAreNotRepeats() {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+
+        pollFailed(2, "timeout");
+        pollFailed(1, "refused");
+
+        assertThat(written).containsExactly(
+                "E [main] poll failed: timeout",
+                "E [main] last message repeated 1 times",
+                "E [main] poll failed: refused");
+    }
+
+    @Test
+    public void eachThreadHasItsOwnRepeats() throws InterruptedException {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+        final Thread other = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                pollFailed(1, "timeout");
+            }
+        }, "other");
+
+        pollFailed(1, "timeout");
+        other.start();
+        other.join();
+        pollFailed(1, "timeout");
+
+        assertThat(written).containsExactly(
+                "E [main] poll failed: timeout",
+                "E [other] poll failed: timeout");
+    }
+
+    @Test
+    public void countsRepeatsAsSuppressed() {
+        final LogMetrics metrics = new LogMetrics();
+        FyzLog.config().logger().recordMetricsTo(metrics);
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+
+        pollFailed(4, "timeout");
+
+        assertThat(metrics.snapshot().logged(LogLevel.ERROR)).isEqualTo(1);
+        assertThat(metrics.snapshot().suppressed(LogLevel.ERROR)).isEqualTo(3);
+    }
+
+    @Test
+    public void countsTheLineWithTheRepeatsAsLogged() {
+        final LogMetrics metrics = new LogMetrics();
+        FyzLog.config().logger().recordMetricsTo(metrics);
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(HOURS));
+
+        pollFailed(4, "timeout");
+        FyzLog.i("recovered");
+
+        assertThat(written).hasSize(3);
+        assertThat(metrics.snapshot().logged(LogLevel.ERROR)).isEqualTo(2);
+        assertThat(metrics.snapshot().suppressed(LogLevel.ERROR)).isEqualTo(3);
+        assertThat(metrics.snapshot().logged(LogLevel.INFO)).isEqualTo(1);
+    }
+
+    @Test
+    public void writesTheCountOnceTheHoldTimeIsUp() throws InterruptedException {
+        FyzLog.updateCoalescing(Coalescing.holdingAtMost(20));
+
+        pollFailed(3, "timeout");
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (written.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(written).containsExactly(
+                "E [main] poll failed: timeout",
+                "E [main] last message repeated 2 times");
+    }
+}
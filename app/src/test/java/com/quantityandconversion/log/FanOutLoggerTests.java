@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+public class FanOutLoggerTests {
+
+    private FanOutLogger fanOut;
+
+    @After
+    public void teardown() throws InterruptedException {
+        FyzLog.writeToLog();
+        if (fanOut != null) {
+            fanOut.shutdown();
+        }
+    }
+
+    private static final class RecordingLogger extends Logger {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final List<String> formats = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        private RecordingLogger(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        private RecordingLogger() {
+            this(new CountDownLatch(0));
+        }
+
+        @Override
+        boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+            return level.logAt(logLevel);
+        }
+
+        @Override
+        boolean mayBlock() {
+            return release.getCount() > 0;
+        }
+
+        @Override
+        void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            formats.add(msgFormat);
+            messages.add(level.tag() + " " + site.methodName() + " : " + MessageTemplate.of(msgFormat).format(args));
+        }
+    }
+
+    @Test
+    public void eachSinkWritesAtItsOwnLevel() {
+        final RecordingLogger logcat = new RecordingLogger();
+        final RecordingLogger crashReport = new RecordingLogger();
+        fanOut = new FanOutLogger().with(logcat, LogLevel.WARN).with(crashReport, LogLevel.VERBOSE);
+        FyzLog.writeTo(fanOut);
+
+        FyzLog.d("debug %d", 1);
+        FyzLog.w("warn %d", 2);
+
+        assertThat(logcat.messages).containsExactly("W eachSinkWritesAtItsOwnLevel : warn 2");
+        assertThat(crashReport.messages).containsExactly(
+                "D eachSinkWritesAtItsOwnLevel : debug 1",
+                "W eachSinkWritesAtItsOwnLevel : warn 2");
+    }
+
+    @Test
+    public void formatsOnceForEverySink() {
+        final RecordingLogger first = new RecordingLogger();
+        final RecordingLogger second = new RecordingLogger();
+        fanOut = new FanOutLogger().with(first, LogLevel.VERBOSE).with(second, LogLevel.VERBOSE);
+        FyzLog.writeTo(fanOut);
+        final int[] formatted = {0};
+        final Object counted = new Object() {
+            @Override
+            public String toString() {
+                formatted[0]++;
+                return "counted";
+            }
+        };
+
+        FyzLog.i("%s", counted);
+
+        assertThat(formatted[0]).isEqualTo(1);
+        assertThat(first.messages).containsExactly("I formatsOnceForEverySink : counted");
+        assertThat(second.messages).containsExactly("I formatsOnceForEverySink : counted");
+    }
+
+    @Test
+    public void passesTheRequestUnformattedToALoneSink() {
+        final RecordingLogger logcat = new RecordingLogger();
+        final RecordingLogger file = new RecordingLogger();
+        fanOut = new FanOutLogger().with(logcat, LogLevel.ERROR).with(file, LogLevel.VERBOSE);
+        FyzLog.writeTo(fanOut);
+
+        FyzLog.i("%s took %d ms", "sync", 2357);
+
+        assertThat(file.formats).containsExactly("%s took %d ms");
+    }
+
+    @Test
+    public void aSlowSinkDoesNotHoldUpTheOthers() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingLogger slowFile = new RecordingLogger(release);
+        final RecordingLogger logcat = new RecordingLogger();
+        fanOut = new FanOutLogger().withQueued(slowFile, LogLevel.VERBOSE, 16, BackPressure.BLOCK).with(logcat, LogLevel.VERBOSE);
+        FyzLog.writeTo(fanOut);
+
+        for (int i = 0; i < 3; i++) {
+            FyzLog.d("message %d", i);
+        }
+
+        assertThat(logcat.messages).hasSize(3);
+        assertThat(slowFile.messages).isEmpty();
+
+        release.countDown();
+        fanOut.flush();
+        assertThat(slowFile.messages).containsExactlyElementsOf(logcat.messages);
+    }
+
+    @Test
+    public void aSinkThatMayBlockMustBeQueued() {
+        final RecordingLogger slowFile = new RecordingLogger(new CountDownLatch(1));
+
+        try {
+            new FanOutLogger().with(slowFile, LogLevel.VERBOSE);
+            fail("A sink that may block should be refused");
+        } catch (final IllegalArgumentException expected) {
+            assertThat(expected).hasMessageContaining("withQueued");
+        }
+        assertThat(new FanOutLogger().with(Logger.AndroidLog, LogLevel.WARN).mayBlock()).isFalse();
+    }
+
+    @Test
+    public void aFailingSinkDoesNotStopTheOthers() {
+        final RecordingLogger file = new RecordingLogger();
+        fanOut = new FanOutLogger().with(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return true;
+            }
+
+            @Override
+            boolean mayBlock() {
+                return false;
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                throw new IllegalStateException("broken sink");
+            }
+        }, LogLevel.VERBOSE).with(file, LogLevel.VERBOSE);
+        FyzLog.writeTo(fanOut);
+
+        try {
+            FyzLog.e("still written");
+            fail("The sink's exception should be rethrown");
+        } catch (final IllegalStateException expected) {
+            assertThat(expected).hasMessage("broken sink");
+        }
+        assertThat(file.messages).containsExactly("E aFailingSinkDoesNotStopTheOthers : still written");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class FileLoggerTests {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private RollingFile rollingFile;
+
+    @After
+    public void teardown() {
+        FyzLog.writeToLog();
+        if (rollingFile != null) {
+            rollingFile.close();
+        }
+    }
+
+    private static String read(final File file) throws IOException {
+        final InputStream in = new FileInputStream(file);
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[4096];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return out.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void writesTimestampedLinesOnSync() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, HOUR);
+        final FileLogger fileLogger = new FileLogger(rollingFile);
+        FyzLog.writeTo(fileLogger);
+        FyzLog.updateCurrentLogLevel(LogLevel.DEBUG);
+
+        FyzLog.v("%s", "filtered");
+        FyzLog.d("%s %d", "it", 2357);
+        assertThat(read(rollingFile.segments()[0])).isEmpty();
+
+        fileLogger.sync();
+
+        assertThat(read(rollingFile.segments()[0]))
+                .matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} D/FYZ:FileLoggerTests \\[main] writesTimestampedLinesOnSync : it 2357\n");
+    }
+
+    @Test
+    public void writesThroughWhenTheBufferFills() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 16, 1024 * 1024, HOUR, 4 * 1024 * 1024, HOUR);
+
+        rollingFile.append("0123456789abcdef0123456789abcdef\n");
+
+        assertThat(read(rollingFile.segments()[0])).isEqualTo("0123456789abcdef0123456789abcdef");
+    }
+
+    @Test
+    public void encodesUtf8() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 16, 1024 * 1024, HOUR, 4 * 1024 * 1024, 0);
+
+        rollingFile.append("caf\u00e9 \u20ac \ud83d\ude00 \ud83d\n");
+
+        assertThat(read(rollingFile.segments()[0])).isEqualTo("caf\u00e9 \u20ac \ud83d\ude00 ?\n");
+    }
+
+    @Test
+    public void rollsBySize() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 10, HOUR, 1000, 0);
+
+        rollingFile.append("0123456789\n");
+        rollingFile.append("abcdefghij\n");
+        rollingFile.append("klmnopqrst\n");
+
+        final File[] segments = rollingFile.segments();
+        assertThat(segments).hasSize(3);
+        assertThat(read(segments[0])).isEqualTo("0123456789\n");
+        assertThat(read(segments[2])).isEqualTo("klmnopqrst\n");
+    }
+
+    @Test
+    public void rollsByAge() throws InterruptedException {
+        rollingFile = new RollingFile(folder.getRoot(), 1000, 5, 10000, 0);
+
+        rollingFile.append("first\n");
+        Thread.sleep(20);
+        rollingFile.append("second\n");
+
+        assertThat(rollingFile.segments()).hasSize(2);
+    }
+
+    @Test
+    public void deletesTheOldestSegmentsToStayWithinTheTotal() throws IOException {
+        rollingFile = new RollingFile(folder.getRoot(), 10, HOUR, 30, 0);
+
+        for (int i = 0; i < 10; i++) {
+            rollingFile.append("line-" + i + "...\n");
+        }
+
+        final File[] segments = rollingFile.segments();
+        long total = 0;
+        for (final File segment : segments) {
+            total += segment.length();
+        }
+        assertThat(total).isLessThanOrEqualTo(30);
+        assertThat(read(segments[segments.length - 1])).isEqualTo("line-9...\n");
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class FlightRecorderTests {
+
+    private static final String TIMESTAMP = "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} ";
+
+    private final List<String> written = new ArrayList<>();
+    private final Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+
+    private Logger recordingTo(final List<String> lines) {
+        return new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                lines.add(level.tag() + " " + site.methodName() + " : " + MessageTemplate.of(msgFormat).format(args));
+            }
+        };
+    }
+
+    @Before
+    public void setup() {
+        FyzLog.writeTo(recordingTo(written));
+        FyzLog.updateCurrentLogLevel(LogLevel.WARN);
+    }
+
+    @After
+    public void teardown() {
+        Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+        FyzLog.updateFlightRecorder(FlightRecorder.NONE);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    @Test
+    public void dumpsEverythingBelowTheLevelOnAnError() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+
+        FyzLog.v("verbose %d", 1);
+        FyzLog.d("debug");
+        FyzLog.e("boom");
+
+        assertThat(written).hasSize(4);
+        assertThat(written.get(0)).isEqualTo("E dumpsEverythingBelowTheLevelOnAnError : boom");
+        assertThat(written.get(1)).isEqualTo("WTF dump : Flight recorder: last 2 events");
+        assertThat(written.get(2)).matches("V dump : " + TIMESTAMP + "verbose 1");
+        assertThat(written.get(3)).matches("D dump : " + TIMESTAMP + "debug");
+    }
+
+    @Test
+    public void dumpsOnlyWhatIsNewSinceTheLastDump() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+        FyzLog.d("debug");
+        FyzLog.wtf("first");
+        written.clear();
+
+        FyzLog.i("info");
+        FyzLog.wtf("second");
+
+        assertThat(written).hasSize(3);
+        assertThat(written.get(1)).isEqualTo("WTF dump : Flight recorder: last 1 events");
+        assertThat(written.get(2)).matches("I dump : " + TIMESTAMP + "info");
+    }
+
+    @Test
+    public void writesNothingWhenOnlyTheErrorIsNew() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+        FyzLog.e("first");
+        written.clear();
+
+        FyzLog.e("second");
+
+        assertThat(written).containsExactly("E writesNothingWhenOnlyTheErrorIsNew : second");
+    }
+
+    @Test
+    public void keepsAFilteredErrorInTheDump() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+        FyzLog.updateCurrentLogLevel(LogLevel.ASSERT);
+
+        FyzLog.e("filtered");
+
+        assertThat(written).hasSize(2);
+        assertThat(written.get(0)).isEqualTo("WTF dump : Flight recorder: last 1 events");
+        assertThat(written.get(1)).matches("E dump : " + TIMESTAMP + "filtered");
+    }
+
+    @Test
+    public void keepsOnlyTheLastEvents() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(4, null));
+        for (int i = 0; i < 10; i++) {
+            FyzLog.d("event %d", i);
+        }
+
+        FyzLog.dumpFlightRecorder();
+
+        assertThat(written).hasSize(5);
+        assertThat(written.get(0)).isEqualTo("WTF dump : Flight recorder: last 4 events");
+        assertThat(written.get(1)).endsWith("event 6");
+        assertThat(written.get(4)).endsWith("event 9");
+    }
+
+    @Test
+    public void dumpsToItsOwnTarget() {
+        final List<String> dumped = new ArrayList<>();
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, recordingTo(dumped)));
+
+        FyzLog.i("info");
+        FyzLog.e("boom");
+
+        assertThat(written).containsExactly("E dumpsToItsOwnTarget : boom");
+        assertThat(dumped).hasSize(3);
+        assertThat(dumped.get(1)).endsWith(" info");
+        assertThat(dumped.get(2)).endsWith(" boom");
+    }
+
+    @Test
+    public void computesLazyArgsWhenDumping() {
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+        FyzLog.d("%s", new LazyArg() {
+            @Override
+            public Object get() {
+                return "computed";
+            }
+        });
+
+        FyzLog.dumpFlightRecorder();
+
+        assertThat(written.get(1)).endsWith(" computed");
+    }
+
+    @Test
+    public void dumpsWhenAThreadDiesThenPassesTheExceptionOn() throws InterruptedException {
+        final List<Throwable> passedOn = new ArrayList<>();
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(final Thread thread, final Throwable throwable) {
+                passedOn.add(throwable);
+            }
+        });
+        FlightRecorder.dumpOnUncaughtException();
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+        FyzLog.d("before the crash");
+
+        final IllegalStateException crash = new IllegalStateException("crash");
+        final Thread dying = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                throw crash;
+            }
+        }, "dying");
+        dying.start();
+        dying.join();
+
+        assertThat(passedOn).containsExactly(crash);
+        assertThat(written.get(0)).startsWith("E uncaughtException : Uncaught exception on dying: java.lang.IllegalStateException: crash\n\tat ");
+        assertThat(written.get(0)).contains(FlightRecorderTests.class.getName());
+        assertThat(written.get(1)).isEqualTo("WTF dump : Flight recorder: last 1 events");
+        assertThat(written.get(2)).endsWith(" before the crash");
+    }
+
+    @Test
+    public void recordsFilteredMessagesWithoutLoggingThem() {
+        final List<String> logged = new ArrayList<>();
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void log(final LogLevel level, final LogConfig config, final String msgFormat, final Object... args) {
+                logged.add(msgFormat);
+                super.log(level, config, msgFormat, args);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(level.tag() + " " + MessageTemplate.of(msgFormat).format(args));
+            }
+        });
+        FyzLog.updateFlightRecorder(new FlightRecorder(16, null));
+
+        FyzLog.d("filtered %d", 1);
+        FyzLog.dumpFlightRecorder();
+
+        assertThat(logged).isEmpty();
+        assertThat(written).hasSize(2);
+        assertThat(written.get(1)).endsWith(" filtered 1");
+    }
+
+    @Test
+    public void dumpsWholeEventsWhileOthersAreRecording() throws InterruptedException {
+        final List<String> torn = new ArrayList<>();
+        final FlightRecorder recorder = new FlightRecorder(8, new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return true;
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                final String message = String.valueOf(args[0]);
+                if (!msgFormat.equals(FlightRecorder.DUMP_FORMAT) && !message.endsWith(" " + threadName)) {
+                    torn.add(threadName + " wrote " + message);
+                }
+            }
+        });
+        final Thread[] recording = new Thread[4];
+        for (int t = 0; t < recording.length; t++) {
+            recording[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    final String name = Thread.currentThread().getName();
+                    for (int i = 0; i < 20000; i++) {
+                        recorder.record(LogLevel.DEBUG, "%s", new Object[]{name});
+                    }
+                }
+            }, "recorder-" + t);
+            recording[t].start();
+        }
+        for (final Thread thread : recording) {
+            while (thread.isAlive()) {
+                recorder.dump(null, LogLevel.VERBOSE);
+            }
+            thread.join();
+        }
+
+        assertThat(torn).isEmpty();
+    }
+
+    @Test
+    public void recordsNothingByDefault() {
+        FyzLog.d("filtered");
+        FyzLog.e("boom");
+
+        assertThat(FlightRecorder.NONE.isRecording()).isFalse();
+        assertThat(written).containsExactly("E recordsNothingByDefault : boom");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LazyArgTests {
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+
+    private final List<String> written = new ArrayList<>();
+    private int computed;
+
+    private final LazyArg expensive = new LazyArg() {
+        @Override
+        public Object get() {
+            computed++;
+            return "expensive";
+        }
+    };
+
+    @After
+    public void teardown() {
+        FyzLog.updateThrottle(Throttle.NONE);
+        FyzLog.clearLogLevelOverrides();
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    private void writeToRecording() {
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(MessageTemplate.of(msgFormat).format(args));
+            }
+        });
+    }
+
+    @Test
+    public void computesTheArgOnceWhenTheMessageIsWritten() {
+        FyzLog.writeToSystem();
+
+        FyzLog.d("%s", expensive);
+
+        assertThat(computed).isEqualTo(1);
+        assertThat(systemOutRule.getLog()).isEqualTo("D@V/ FYZ:LazyArgTests [main] computesTheArgOnceWhenTheMessageIsWritten : expensive\n");
+    }
+
+    @Test
+    public void aNullArgStillCompilesAgainstTheObjectOverloads() {
+        FyzLog.writeToSystem();
+
+        FyzLog.d("x %s", null);
+
+        assertThat(systemOutRule.getLog()).isEqualTo("D@V/ FYZ:LazyArgTests [main] aNullArgStillCompilesAgainstTheObjectOverloads : x null\n");
+    }
+
+    @Test
+    public void neverComputesTheArgBelowTheLevel() {
+        writeToRecording();
+        FyzLog.updateCurrentLogLevel(LogLevel.ERROR);
+
+        FyzLog.v("%s", expensive);
+        FyzLog.d("%s and %s", expensive, expensive);
+        FyzLog.w("%s", expensive);
+
+        assertThat(computed).isEqualTo(0);
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    public void neverComputesTheArgWhenAnOverrideFiltersTheClass() {
+        writeToRecording();
+        FyzLog.updateLogLevelOverride(LazyArgTests.class.getName(), LogLevel.ERROR);
+        FyzLog.updateLogLevelOverride("SomewhereElse", LogLevel.VERBOSE);
+
+        FyzLog.d("%s", expensive);
+
+        assertThat(computed).isEqualTo(0);
+    }
+
+    @Test
+    public void onlyComputesTheArgsThrottlingLetsThrough() {
+        writeToRecording();
+        FyzLog.updateThrottle(Throttle.NONE.sample(LogLevel.DEBUG, 2));
+
+        for (int i = 0; i < 10; i++) {
+            FyzLog.d("%s", expensive);
+        }
+
+        assertThat(computed).isEqualTo(5);
+    }
+
+    @Test
+    public void mixesWithEagerArgsWithoutChangingTheCallersArray() {
+        writeToRecording();
+        final Object[] args = {expensive, 2357};
+
+        FyzLog.i("%s %d", args);
+
+        assertThat(written).containsExactly("expensive 2357");
+        assertThat(args[0]).isSameAs(expensive);
+    }
+}
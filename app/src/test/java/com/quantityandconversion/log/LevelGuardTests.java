@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LevelGuardTests {
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+
+    @Before
+    public void setup() {
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+        systemOutRule.clearLog();
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    @Test
+    public void androidLogIsLoggableAtAndAboveTheCurrentLevel() {
+        FyzLog.updateCurrentLogLevel(LogLevel.WARN);
+
+        assertThat(FyzLog.isVerboseLoggable()).isFalse();
+        assertThat(FyzLog.isDebugLoggable()).isFalse();
+        assertThat(FyzLog.isInfoLoggable()).isFalse();
+        assertThat(FyzLog.isWarnLoggable()).isTrue();
+        assertThat(FyzLog.isErrorLoggable()).isTrue();
+        assertThat(FyzLog.isWtfLoggable()).isTrue();
+    }
+
+    @Test
+    public void systemOutIsLoggableAtEveryLevel() {
+        FyzLog.writeToSystem();
+        FyzLog.updateCurrentLogLevel(LogLevel.ASSERT);
+
+        assertThat(FyzLog.isVerboseLoggable()).isTrue();
+        assertThat(FyzLog.isWtfLoggable()).isTrue();
+    }
+
+    @Test
+    public void disabledOverloadsNeverReachTheAndroidLog() {
+        FyzLog.updateCurrentLogLevel(LogLevel.ASSERT);
+
+        //The unmocked android.util.Log throws if any of these get through
+        FyzLog.v("%d", 1);
+        FyzLog.d("%d %d", 1L, 2L);
+        FyzLog.i("%s %d", "it", 2);
+        FyzLog.w("%b", true);
+        FyzLog.e("%s %s %s", "a", "b", "c");
+
+        assertThat(systemOutRule.getLog()).isNullOrEmpty();
+    }
+
+    @Test
+    public void overloadsFormatLikeVarargs() {
+        FyzLog.writeToSystem();
+
+        FyzLog.v("%s", "it");
+        FyzLog.d("%s %s", "it", "is");
+        FyzLog.i("%s %s %s", "it", "is", "so");
+        FyzLog.w("%d", 2357);
+        FyzLog.e("%d", 2357L);
+        FyzLog.wtf("%b", true);
+        FyzLog.v("%d %d", 23, 57);
+        FyzLog.d("%x %x", 23L, 57L);
+        FyzLog.i("%s %d", "it", 2357);
+        FyzLog.w("%s %d", "it", 2357L);
+
+        final String prefix = " FYZ:LevelGuardTests [main] overloadsFormatLikeVarargs : ";
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "V@V/" + prefix + "it\n" +
+                        "D@V/" + prefix + "it is\n" +
+                        "I@V/" + prefix + "it is so\n" +
+                        "W@V/" + prefix + "2357\n" +
+                        "E@V/" + prefix + "2357\n" +
+                        "WTF@V/" + prefix + "true\n" +
+                        "V@V/" + prefix + "23 57\n" +
+                        "D@V/" + prefix + "17 39\n" +
+                        "I@V/" + prefix + "it 2357\n" +
+                        "W@V/" + prefix + "it 2357\n");
+    }
+
+    @Test
+    public void narrowPrimitivesKeepTheirType() {
+        FyzLog.writeToSystem();
+
+        FyzLog.d("%s", 'c');
+        FyzLog.d("%x", (byte) -1);
+        FyzLog.d("%x", (short) -1);
+        FyzLog.i("%s%s", 'o', 'k');
+        FyzLog.i("%x %x", (byte) -1, (byte) 16);
+        FyzLog.w("%s %s", "it", 'c');
+        FyzLog.w("%s %x", "it", (byte) -1);
+
+        final String prefix = " FYZ:LevelGuardTests [main] narrowPrimitivesKeepTheirType : ";
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "D@V/" + prefix + "c\n" +
+                        "D@V/" + prefix + "ff\n" +
+                        "D@V/" + prefix + "ffff\n" +
+                        "I@V/" + prefix + "ok\n" +
+                        "I@V/" + prefix + "ff 10\n" +
+                        "W@V/" + prefix + "it c\n" +
+                        "W@V/" + prefix + "it ff\n");
+    }
+
+    @Test
+    public void anIntMixedWithALongStaysAnInt() {
+        FyzLog.writeToSystem();
+
+        FyzLog.d("%x %d", -1, 5L);
+        FyzLog.d("%d %x", 5L, -1);
+
+        final String prefix = " FYZ:LevelGuardTests [main] anIntMixedWithALongStaysAnInt : ";
+        assertThat(systemOutRule.getLog()).isEqualTo(
+                "D@V/" + prefix + "ffffffff 5\n" +
+                        "D@V/" + prefix + "5 ffffffff\n");
+    }
+}
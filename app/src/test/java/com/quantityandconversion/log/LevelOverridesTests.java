@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LevelOverridesTests {
+
+    private final List<String> written = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(level.tag() + "@" + logLevel.tag() + " " + site.methodName());
+            }
+        });
+        FyzLog.updateCurrentLogLevel(LogLevel.ERROR);
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.clearLogLevelOverrides();
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    @Test
+    public void theMostSpecificOverrideWins() {
+        final LevelOverrides overrides = LevelOverrides.NONE
+                .with("com.example", LogLevel.ERROR)
+                .with("com.example.sync", LogLevel.DEBUG)
+                .with("com.example.sync.SyncManager$Retry", LogLevel.VERBOSE)
+                .with("Uploader", LogLevel.WARN);
+
+        assertThat(overrides.lookup("com.example.ui.MainActivity")).isSameAs(LogLevel.ERROR);
+        assertThat(overrides.lookup("com.example.sync.SyncManager")).isSameAs(LogLevel.DEBUG);
+        assertThat(overrides.lookup("com.example.sync.SyncManager$Retry")).isSameAs(LogLevel.VERBOSE);
+        assertThat(overrides.lookup("com.example.sync.SyncManager$Retry$1")).isSameAs(LogLevel.VERBOSE);
+        assertThat(overrides.lookup("com.example.sync.Uploader")).isSameAs(LogLevel.WARN);
+        assertThat(overrides.lookup("org.other.Thing")).isNull();
+    }
+
+    @Test
+    public void theLowestLevelIsTheLowerOfTheOverridesAndTheCurrentLevel() {
+        final LevelOverrides overrides = LevelOverrides.NONE.with("a", LogLevel.INFO).with("b", LogLevel.WARN);
+
+        assertThat(overrides.lowest(LogLevel.ERROR)).isSameAs(LogLevel.INFO);
+        assertThat(overrides.lowest(LogLevel.VERBOSE)).isSameAs(LogLevel.VERBOSE);
+        assertThat(LevelOverrides.NONE.lowest(LogLevel.ERROR)).isSameAs(LogLevel.ERROR);
+    }
+
+    @Test
+    public void theHighestLevelIsTheHigherOfTheOverridesAndTheCurrentLevel() {
+        final LevelOverrides overrides = LevelOverrides.NONE.with("a", LogLevel.INFO).with("b", LogLevel.WARN);
+
+        assertThat(overrides.highest(LogLevel.DEBUG)).isSameAs(LogLevel.WARN);
+        assertThat(overrides.highest(LogLevel.ERROR)).isSameAs(LogLevel.ERROR);
+        assertThat(LevelOverrides.NONE.highest(LogLevel.DEBUG)).isSameAs(LogLevel.DEBUG);
+    }
+
+    @Test
+    public void removingTheLastOverrideLeavesNone() {
+        assertThat(LevelOverrides.NONE.with("a", LogLevel.INFO).without("a")).isSameAs(LevelOverrides.NONE);
+    }
+
+    @Test
+    public void aClassOverrideLowersItsLevel() {
+        FyzLog.updateLogLevelOverride(LevelOverridesTests.class.getName(), LogLevel.DEBUG);
+
+        assertThat(FyzLog.isDebugLoggable()).isTrue();
+        FyzLog.v("not logged");
+        FyzLog.d("logged");
+
+        assertThat(written).containsExactly("D@D aClassOverrideLowersItsLevel");
+    }
+
+    @Test
+    public void aPackageOverrideRaisesItsLevel() {
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.updateLogLevelOverride("com.quantityandconversion", LogLevel.WARN);
+
+        FyzLog.i("not logged");
+        FyzLog.w("logged");
+
+        assertThat(written).containsExactly("W@W aPackageOverrideRaisesItsLevel");
+    }
+
+    @Test
+    public void otherClassesKeepTheCurrentLevel() {
+        FyzLog.updateLogLevelOverride("com.example.Elsewhere", LogLevel.VERBOSE);
+
+        FyzLog.d("not logged");
+        FyzLog.e("logged");
+
+        assertThat(written).containsExactly("E@E otherClassesKeepTheCurrentLevel");
+    }
+
+    @Test
+    public void theCallerIsOnlyLookedUpWhereAnOverrideCouldFilterTheMessage() {
+        FyzLog.updateCallerMode(CallerMode.NEVER);
+        FyzLog.updateLogLevelOverride("com.example.Elsewhere", LogLevel.VERBOSE);
+        FyzLog.updateLogLevelOverride(LevelOverridesTests.class.getName(), LogLevel.DEBUG);
+
+        FyzLog.e("logged without looking");
+        FyzLog.d("logged after looking");
+
+        assertThat(written).containsExactly(
+                "E@E unknown",
+                "D@D theCallerIsOnlyLookedUpWhereAnOverrideCouldFilterTheMessage");
+    }
+
+    @Test
+    public void changingAnOverrideAppliesToSitesAlreadySeen() {
+        for (final LogLevel override : new LogLevel[]{LogLevel.DEBUG, LogLevel.ASSERT, LogLevel.DEBUG}) {
+            FyzLog.updateLogLevelOverride("LevelOverridesTests", override);
+            FyzLog.d("same site");
+        }
+
+        assertThat(written).containsExactly(
+                "D@D changingAnOverrideAppliesToSitesAlreadySeen",
+                "D@D changingAnOverrideAppliesToSitesAlreadySeen");
+    }
+}
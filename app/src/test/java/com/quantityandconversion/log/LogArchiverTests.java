@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogArchiverTests {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private RollingFile rollingFile;
+    private LogArchiver archiver;
+
+    @After
+    public void teardown() throws InterruptedException {
+        if (rollingFile != null) {
+            rollingFile.close();
+        }
+        if (archiver != null) {
+            archiver.shutdown();
+        }
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[4096];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return out.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static String unzip(final File archive) throws IOException {
+        return read(new GZIPInputStream(new FileInputStream(archive)));
+    }
+
+    private File segment(final String name, final int bytes) throws IOException {
+        final File segment = folder.newFile(name);
+        final OutputStream out = new FileOutputStream(segment);
+        try {
+            for (int i = 0; i < bytes; i++) {
+                out.write('a' + i % 26);
+            }
+        } finally {
+            out.close();
+        }
+        return segment;
+    }
+
+    @Test
+    public void gzipsSegmentsOnceTheyRoll() throws IOException {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 1024 * 1024, 0, 1);
+        rollingFile = new RollingFile(folder.getRoot(), 10, HOUR, 1000, 0);
+        rollingFile.archiveTo(archiver);
+
+        rollingFile.append("first line\n");
+        rollingFile.append("second line\n");
+        archiver.flush();
+
+        assertThat(rollingFile.segments()).hasSize(1);
+        assertThat(archiver.archives()).hasSize(1);
+        final LogArchiver.Archive archive = archiver.archives().get(0);
+        assertThat(archive.file.getName()).startsWith(RollingFile.SEGMENT_PREFIX).endsWith(RollingFile.SEGMENT_SUFFIX + LogArchiver.ARCHIVE_SUFFIX);
+        assertThat(unzip(archive.file)).isEqualTo("first line\n");
+        assertThat(archive.bytes).isEqualTo(11);
+        assertThat(archive.compressedBytes).isEqualTo(archive.file.length());
+    }
+
+    @Test
+    public void streamsSegmentsLargerThanItsBuffers() throws IOException {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.DEFAULT_COMPRESSION, 1024 * 1024, 0, 1);
+        final File segment = segment("fyzlog-0000000001000.log", 200 * 1024);
+        final String expected = read(new FileInputStream(segment));
+
+        archiver.archive(segment);
+        archiver.flush();
+
+        assertThat(segment).doesNotExist();
+        assertThat(unzip(archiver.archives().get(0).file)).isEqualTo(expected);
+        assertThat(archiver.archives().get(0).compressedBytes).isLessThan(expected.length() / 10);
+    }
+
+    @Test
+    public void indexesTheTimeEachArchiveCovers() throws IOException, InterruptedException {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 1024 * 1024, 0, 1);
+        final File early = segment("fyzlog-0000000001000.log", 10);
+        early.setLastModified(5000);
+        final File late = segment("fyzlog-0000000010000.log", 10);
+        late.setLastModified(15000);
+
+        archiver.archive(early);
+        archiver.archive(late);
+        archiver.flush();
+
+        assertThat(archiver.archivesBetween(0, 999)).isEmpty();
+        assertThat(archiver.archivesBetween(4000, 6000)).hasSize(1);
+        assertThat(archiver.archivesBetween(4000, 6000).get(0).firstMillis).isEqualTo(1000);
+        assertThat(archiver.archivesBetween(5000, 10000)).hasSize(2);
+
+        archiver.shutdown();
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 1024 * 1024, 0, 1);
+
+        assertThat(archiver.archivesBetween(12000, 20000)).hasSize(1);
+        assertThat(archiver.archivesBetween(12000, 20000).get(0).lastMillis).isEqualTo(15000);
+    }
+
+    @Test
+    public void deletesTheOldestArchivesPastTheLimit() throws IOException {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 40, 0, 1);
+        final File oldest = segment("fyzlog-0000000001000.log", 10);
+
+        archiver.archive(oldest);
+        archiver.archive(segment("fyzlog-0000000002000.log", 10));
+        archiver.archive(segment("fyzlog-0000000003000.log", 10));
+        archiver.flush();
+
+        assertThat(archiver.archives()).hasSize(1);
+        assertThat(archiver.archives().get(0).firstMillis).isEqualTo(3000);
+        assertThat(new File(folder.getRoot(), oldest.getName() + LogArchiver.ARCHIVE_SUFFIX)).doesNotExist();
+    }
+
+    @Test
+    public void readsNoFasterThanItsBudget() throws IOException {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 1024 * 1024, 1024 * 1024, 1);
+        final File segment = segment("fyzlog-0000000001000.log", 256 * 1024);
+
+        final long started = System.nanoTime();
+        archiver.archive(segment);
+        archiver.flush();
+
+        assertThat((System.nanoTime() - started) / 1000000).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    public void skipsSegmentsDeletedBeforeTheirTurn() {
+        archiver = new LogArchiver(folder.getRoot(), Deflater.BEST_SPEED, 1024 * 1024, 0, 1);
+
+        archiver.archive(new File(folder.getRoot(), "fyzlog-0000000001000.log"));
+        archiver.flush();
+
+        assertThat(archiver.archives()).isEmpty();
+        assertThat(archiver.failures()).isZero();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogConfigTests {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private LogConfigFile configFile;
+
+    @After
+    public void teardown() {
+        if (configFile != null) {
+            configFile.stop();
+        }
+        FyzLog.updateConfig(LogConfig.DEFAULT);
+    }
+
+    private static final class ExpectingLogger extends Logger {
+        private final LogLevel expected;
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger torn = new AtomicInteger();
+
+        private ExpectingLogger(final LogLevel expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+            return true;
+        }
+
+        @Override
+        void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+            written.incrementAndGet();
+            if (logLevel != expected) {
+                torn.incrementAndGet();
+            }
+        }
+    }
+
+    private File write(final String contents) throws IOException {
+        final File file = new File(folder.getRoot(), "fyzlog.properties");
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    @Test
+    public void aRequestNeverSeesHalfOfAChange() throws InterruptedException {
+        final ExpectingLogger warnLogger = new ExpectingLogger(LogLevel.WARN);
+        final ExpectingLogger verboseLogger = new ExpectingLogger(LogLevel.VERBOSE);
+        final LogConfig warn = LogConfig.DEFAULT.withLogger(warnLogger).withLogLevel(LogLevel.WARN).withCallerMode(CallerMode.NEVER);
+        final LogConfig verbose = LogConfig.DEFAULT.withLogger(verboseLogger).withLogLevel(LogLevel.VERBOSE).withCallerMode(CallerMode.NEVER);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        FyzLog.updateConfig(warn);
+        final Thread switcher = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (running.get()) {
+                    FyzLog.updateConfig(warn);
+                    FyzLog.updateConfig(verbose);
+                }
+            }
+        });
+        switcher.start();
+
+        try {
+            for (int i = 0; i < 100000; i++) {
+                FyzLog.e("message %d", i);
+            }
+        } finally {
+            running.set(false);
+            switcher.join();
+        }
+
+        assertThat(warnLogger.written.get() + verboseLogger.written.get()).isEqualTo(100000);
+        assertThat(warnLogger.torn.get()).isZero();
+        assertThat(verboseLogger.torn.get()).isZero();
+    }
+
+    @Test
+    public void appliesTheFileOnTopOfTheCurrentSettings() throws IOException {
+        FyzLog.updateConfig(LogConfig.DEFAULT.withCallerMode(CallerMode.NEVER));
+        configFile = new LogConfigFile(write("level=warn\nsink=SystemOut\nlevel.com.example.sync=VERBOSE\nlimit.DEBUG=5,20\n"));
+
+        assertThat(configFile.reloadIfChanged()).isTrue();
+
+        final LogConfig config = FyzLog.config();
+        assertThat(config.logLevel()).isSameAs(LogLevel.WARN);
+        assertThat(config.logger()).isSameAs(Logger.SystemOut);
+        assertThat(config.callerMode()).isSameAs(CallerMode.NEVER);
+        assertThat(config.overrides().lookup("com.example.sync.SyncManager")).isSameAs(LogLevel.VERBOSE);
+        assertThat(config.throttle().isEmpty()).isFalse();
+    }
+
+    @Test
+    public void readsAnUnchangedFileOnce() throws IOException {
+        configFile = new LogConfigFile(write("level=INFO\n"));
+
+        assertThat(configFile.reloadIfChanged()).isTrue();
+        assertThat(configFile.reloadIfChanged()).isFalse();
+    }
+
+    @Test
+    public void aBrokenFileKeepsTheCurrentSettings() throws IOException {
+        final File file = write("level=INFO\n");
+        configFile = new LogConfigFile(file);
+        configFile.reloadIfChanged();
+        final LogConfig applied = FyzLog.config();
+
+        write("level=LOUD\n");
+        assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+
+        assertThat(configFile.reloadIfChanged()).isFalse();
+        assertThat(configFile.failures()).isEqualTo(1);
+        assertThat(FyzLog.config()).isSameAs(applied);
+    }
+
+    @Test
+    public void deletingTheFileRestoresTheOriginalSettings() throws IOException {
+        FyzLog.updateConfig(LogConfig.DEFAULT.withLogLevel(LogLevel.DEBUG));
+        final File file = write("level=ERROR\nlevel.com.example.sync=VERBOSE\n");
+        configFile = new LogConfigFile(file);
+        configFile.reloadIfChanged();
+        assertThat(FyzLog.config().logLevel()).isSameAs(LogLevel.ERROR);
+
+        assertThat(file.delete()).isTrue();
+
+        assertThat(configFile.reloadIfChanged()).isTrue();
+        assertThat(FyzLog.config().logLevel()).isSameAs(LogLevel.DEBUG);
+        assertThat(FyzLog.config().overrides().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void keepsChangesMadeInCodeWhenTheFileChanges() throws IOException {
+        final File file = write("level=INFO\n");
+        configFile = new LogConfigFile(file);
+        configFile.reloadIfChanged();
+        final FlightRecorder recorder = new FlightRecorder(16, null);
+        FyzLog.writeTo(Logger.SystemOut);
+        FyzLog.updateFlightRecorder(recorder);
+
+        write("level=ERROR\n");
+        assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+        configFile.reloadIfChanged();
+        assertThat(file.delete()).isTrue();
+        configFile.reloadIfChanged();
+
+        final LogConfig config = FyzLog.config();
+        assertThat(config.logLevel()).isSameAs(LogLevel.VERBOSE);
+        assertThat(config.logger()).isSameAs(Logger.SystemOut);
+        assertThat(config.flightRecorder()).isSameAs(recorder);
+    }
+
+    @Test
+    public void aSettingTheFileStopsNamingIsPutBack() throws IOException {
+        FyzLog.updateConfig(LogConfig.DEFAULT.withCallerMode(CallerMode.NEVER)
+                .withThrottle(Throttle.NONE.sample(LogLevel.DEBUG, 4)));
+        final File file = write("callerMode=ALWAYS\nlimit.INFO=5,20\nlevel=WARN\n");
+        configFile = new LogConfigFile(file);
+        configFile.reloadIfChanged();
+        assertThat(FyzLog.config().callerMode()).isSameAs(CallerMode.ALWAYS);
+
+        write("level=WARN\n");
+        assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+        configFile.reloadIfChanged();
+
+        final LogConfig config = FyzLog.config();
+        assertThat(config.callerMode()).isSameAs(CallerMode.NEVER);
+        assertThat(config.logLevel()).isSameAs(LogLevel.WARN);
+        assertThat(config.throttle().limits(LogLevel.DEBUG)).isTrue();
+        assertThat(config.throttle().limits(LogLevel.INFO)).isFalse();
+    }
+
+    @Test
+    public void picksUpChangesWhileWatching() throws IOException, InterruptedException {
+        final File file = write("level=INFO\n");
+        configFile = new LogConfigFile(file);
+        configFile.watch(10);
+        assertThat(FyzLog.config().logLevel()).isSameAs(LogLevel.INFO);
+
+        write("level=ERROR\n");
+        assertThat(file.setLastModified(file.lastModified() + 2000)).isTrue();
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (FyzLog.config().logLevel() != LogLevel.ERROR && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(FyzLog.config().logLevel()).isSameAs(LogLevel.ERROR);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogEventTests {
+
+    private final List<String> written = new ArrayList<>();
+    private final List<String> fields = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(level.tag() + " " + site.methodName() + " : " + MessageTemplate.of(msgFormat).format(args));
+            }
+        });
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    private void writeToFieldRecorder() {
+        FyzLog.writeTo(new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return true;
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(MessageTemplate.of(msgFormat).format(args));
+            }
+
+            @Override
+            void writeEvent(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String message, final LogEvent event) {
+                fields.add("message " + message);
+                for (int i = 0; i < event.size(); i++) {
+                    fields.add(event.key(i) + " " + event.type(i) + " " + event.value(i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void writesTheMessageAndFieldsAsText() {
+        FyzLog.atInfo().kv("userId", 42).kv("latencyMs", 17.5).kv("cached", false).kv("path", "/sync").log("request done");
+
+        assertThat(written).containsExactly("I writesTheMessageAndFieldsAsText : request done userId=42 latencyMs=17.5 cached=false path=/sync");
+    }
+
+    @Test
+    public void writesJustTheFieldsWithoutAMessage() {
+        FyzLog.atWarn().kv("retries", 3).kv("gaveUp", true).log(null);
+
+        assertThat(written).containsExactly("W writesJustTheFieldsWithoutAMessage : retries=3 gaveUp=true");
+    }
+
+    @Test
+    public void handsTheFieldsToTheLoggerUnrendered() {
+        writeToFieldRecorder();
+
+        FyzLog.atDebug().kv("id", 7L).kv("ratio", 0.25).kv("ok", true).kv("name", "sync").log("done");
+
+        assertThat(written).isEmpty();
+        assertThat(fields).containsExactly(
+                "message done",
+                "id " + LogEvent.LONG + " 7",
+                "ratio " + LogEvent.DOUBLE + " 0.25",
+                "ok " + LogEvent.BOOLEAN + " true",
+                "name " + LogEvent.OBJECT + " sync");
+    }
+
+    @Test
+    public void returnsTheSharedNoOpWhenTheLevelIsOff() {
+        FyzLog.updateCurrentLogLevel(LogLevel.WARN);
+        final int[] computed = {0};
+
+        final LogEvent event = FyzLog.atDebug();
+        event.kv("expensive", new LazyArg() {
+            @Override
+            public Object get() {
+                computed[0]++;
+                return "value";
+            }
+        }).log("never written");
+
+        assertThat(event).isSameAs(LogEvent.NOOP);
+        assertThat(computed[0]).isZero();
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    public void reusesOneEventPerThread() {
+        final LogEvent first = FyzLog.atInfo();
+        first.kv("n", 1).log("first");
+
+        final LogEvent second = FyzLog.atInfo();
+        final LogEvent nested = FyzLog.atInfo();
+        nested.kv("n", 3).log("nested");
+        second.kv("n", 2).log("second");
+
+        assertThat(second).isSameAs(first);
+        assertThat(nested).isNotSameAs(first);
+        assertThat(written).containsExactly(
+                "I reusesOneEventPerThread : first n=1",
+                "I reusesOneEventPerThread : nested n=3",
+                "I reusesOneEventPerThread : second n=2");
+    }
+
+    @Test
+    public void growsPastItsInitialFields() {
+        LogEvent event = FyzLog.atInfo();
+        final StringBuilder expected = new StringBuilder("I growsPastItsInitialFields : many");
+        for (int i = 0; i < 20; i++) {
+            event = event.kv("k" + i, i);
+            expected.append(" k").append(i).append('=').append(i);
+        }
+        event.log("many");
+
+        assertThat(written).containsExactly(expected.toString());
+    }
+}
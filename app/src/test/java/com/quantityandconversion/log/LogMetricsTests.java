@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.SystemOutRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogMetricsTests {
+
+    @Rule
+    public final SystemOutRule systemOutRule = new SystemOutRule().enableLog();
+
+    private final List<String> written = new ArrayList<>();
+    private final LogMetrics metrics = new LogMetrics();
+    private Logger recording;
+
+    @Before
+    public void setup() {
+        recording = new Logger() {
+            @Override
+            boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+                return level.logAt(logLevel);
+            }
+
+            @Override
+            void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+                written.add(MessageTemplate.of(msgFormat).format(args));
+            }
+        };
+        recording.recordMetricsTo(metrics);
+        FyzLog.writeTo(recording);
+    }
+
+    @After
+    public void teardown() {
+        Logger.SystemOut.recordMetricsTo(LogMetrics.DISABLED);
+        FyzLog.updateThrottle(Throttle.NONE);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+        FyzLog.writeToLog();
+    }
+
+    @Test
+    public void countsLoggedAndFilteredPerLevel() {
+        FyzLog.updateCurrentLogLevel(LogLevel.INFO);
+
+        FyzLog.v("filtered");
+        FyzLog.d("filtered %d", 1);
+        FyzLog.i("logged");
+        FyzLog.w("logged %s", "twice");
+        FyzLog.w("logged %s", "twice");
+
+        final LogMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.filtered(LogLevel.VERBOSE)).isEqualTo(1);
+        assertThat(snapshot.filtered(LogLevel.DEBUG)).isEqualTo(1);
+        assertThat(snapshot.logged(LogLevel.INFO)).isEqualTo(1);
+        assertThat(snapshot.logged(LogLevel.WARN)).isEqualTo(2);
+        assertThat(snapshot.logged(LogLevel.DEBUG)).isEqualTo(0);
+        assertThat(snapshot.latencyCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void countsMessagesAThrottleSuppresses() {
+        FyzLog.updateThrottle(Throttle.NONE.sample(LogLevel.DEBUG, 2));
+
+        for (int i = 0; i < 10; i++) {
+            FyzLog.d("sampled %d", i);
+        }
+
+        final LogMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.logged(LogLevel.DEBUG)).isEqualTo(5);
+        assertThat(snapshot.suppressed(LogLevel.DEBUG)).isEqualTo(5);
+    }
+
+    @Test
+    public void countsTheUtf8BytesEmitted() {
+        Logger.SystemOut.recordMetricsTo(metrics);
+        FyzLog.writeToSystem();
+
+        FyzLog.d("%s %d", "it", 2357);
+
+        final String line = systemOutRule.getLog().trim();
+        assertThat(metrics.snapshot().bytesEmitted()).isEqualTo(line.length());
+
+        metrics.emitted("caf\u00e9 \u20ac \ud83d\ude00");
+        assertThat(metrics.snapshot().bytesEmitted()).isEqualTo(line.length() + 14);
+    }
+
+    @Test
+    public void bucketsLatencyByPowersOfTwo() {
+        assertThat(LogMetrics.latencyBucket(0)).isEqualTo(0);
+        assertThat(LogMetrics.latencyBucket(127)).isEqualTo(0);
+        assertThat(LogMetrics.latencyBucket(128)).isEqualTo(1);
+        assertThat(LogMetrics.latencyBucket(255)).isEqualTo(1);
+        assertThat(LogMetrics.latencyBucket(256)).isEqualTo(2);
+        assertThat(LogMetrics.latencyBucket(Long.MAX_VALUE)).isEqualTo(LogMetrics.LATENCY_BUCKETS - 1);
+        assertThat(LogMetrics.latencyUpperBoundNanos(1)).isEqualTo(256);
+    }
+
+    @Test
+    public void percentilesComeFromTheHistogram() {
+        final long start = metrics.startNanos();
+        for (int i = 0; i < 100; i++) {
+            metrics.finished(start);
+        }
+
+        final LogMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.latencyCount()).isEqualTo(100);
+        assertThat(snapshot.latencyPercentileNanos(50)).isGreaterThan(0);
+        assertThat(snapshot.latencyPercentileNanos(99)).isGreaterThanOrEqualTo(snapshot.latencyPercentileNanos(50));
+        assertThat(snapshot.latencyTotalNanos()).isLessThanOrEqualTo(100 * snapshot.latencyPercentileNanos(100));
+    }
+
+    @Test
+    public void disabledRecordsNothing() {
+        recording.recordMetricsTo(LogMetrics.DISABLED);
+
+        FyzLog.d("logged");
+        LogMetrics.DISABLED.emitted(100);
+
+        final LogMetrics.Snapshot snapshot = LogMetrics.DISABLED.snapshot();
+        assertThat(LogMetrics.DISABLED.isEnabled()).isFalse();
+        assertThat(LogMetrics.DISABLED.startNanos()).isEqualTo(0);
+        assertThat(snapshot.logged(LogLevel.DEBUG)).isEqualTo(0);
+        assertThat(snapshot.bytesEmitted()).isEqualTo(0);
+        assertThat(snapshot.latencyPercentileNanos(50)).isEqualTo(0);
+        assertThat(written).containsExactly("logged");
+    }
+
+    @Test
+    public void stripedCountsAddUpAcrossThreads() throws InterruptedException {
+        final StripedCounters counters = new StripedCounters(3);
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        counters.add(1, 1);
+                        counters.add(2, 2);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(counters.sum(0)).isEqualTo(0);
+        assertThat(counters.sum(1)).isEqualTo(80000);
+        assertThat(counters.sum(2)).isEqualTo(160000);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogStoreTests {
+
+    private static final long HOUR = 60 * 60 * 1000;
+    private static final CallSite SYNC = CallSite.of("com.example.sync.SyncService", "poll");
+    private static final CallSite UI = CallSite.of("com.example.ui.MainActivity", "onResume");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private LogStore store;
+
+    @After
+    public void teardown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private LogStore open(final int blockBytes) {
+        return new LogStore(folder.getRoot(), 1024 * 1024, HOUR, 4 * 1024 * 1024, HOUR, blockBytes);
+    }
+
+    private void write(final LogLevel level, final CallSite site, final String msgFormat, final Object... args) {
+        store.logger().write(level, LogLevel.VERBOSE, site, "main", msgFormat, args);
+    }
+
+    private static List<String> lines(final LogStore.Cursor cursor) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        while (cursor.next()) {
+            lines.add(cursor.systemOutLine());
+        }
+        cursor.close();
+        return lines;
+    }
+
+    private static void pause() throws InterruptedException {
+        final long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() <= start + 1) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void findsRecordsByLevelAndTag() throws IOException {
+        store = open(64 * 1024);
+        write(LogLevel.DEBUG, SYNC, "polled %d", 1);
+        write(LogLevel.WARN, SYNC, "poll slow: %d ms", 900);
+        write(LogLevel.ERROR, UI, "render failed");
+        write(LogLevel.ERROR, SYNC, "poll failed: %s", "timeout");
+
+        assertThat(lines(store.query(LogQuery.ALL.atLeast(LogLevel.WARN).withTag("SyncService")))).containsExactly(
+                "W@V/ FYZ:SyncService [main] poll : poll slow: 900 ms",
+                "E@V/ FYZ:SyncService [main] poll : poll failed: timeout");
+    }
+
+    @Test
+    public void findsRecordsByTime() throws IOException, InterruptedException {
+        store = open(64);
+        write(LogLevel.INFO, SYNC, "before");
+        pause();
+        final long from = System.currentTimeMillis();
+        write(LogLevel.INFO, SYNC, "during");
+        final long to = System.currentTimeMillis();
+        pause();
+        write(LogLevel.INFO, SYNC, "after");
+
+        assertThat(lines(store.query(LogQuery.ALL.between(from, to)))).containsExactly(
+                "I@V/ FYZ:SyncService [main] poll : during");
+    }
+
+    @Test
+    public void readsOnlyTheBlocksThatMayMatch() throws IOException {
+        store = open(256);
+        for (int i = 0; i < 200; i++) {
+            write(LogLevel.DEBUG, UI, "frame %d", i);
+        }
+        write(LogLevel.WARN, SYNC, "poll slow");
+        for (int i = 0; i < 200; i++) {
+            write(LogLevel.DEBUG, UI, "frame %d", i);
+        }
+        write(LogLevel.DEBUG, UI, "last");
+
+        final LogStore.Cursor all = store.query(LogQuery.ALL);
+        assertThat(lines(all)).hasSize(402);
+        final LogStore.Cursor warnings = store.query(LogQuery.ALL.atLeast(LogLevel.WARN));
+
+        assertThat(lines(warnings)).containsExactly("W@V/ FYZ:SyncService [main] poll : poll slow");
+        assertThat(all.regionsRead()).isGreaterThan(10);
+        assertThat(warnings.regionsRead()).isEqualTo(2);
+    }
+
+    @Test
+    public void queriesWhatAnEarlierRunStored() throws IOException {
+        store = open(128);
+        for (int i = 0; i < 50; i++) {
+            write(LogLevel.INFO, SYNC, "synced %d", i);
+        }
+        write(LogLevel.ERROR, UI, "crashed");
+        store.close();
+
+        store = open(128);
+
+        assertThat(lines(store.query(LogQuery.ALL.withTag("MainActivity")))).containsExactly(
+                "E@V/ FYZ:MainActivity [main] onResume : crashed");
+    }
+
+    @Test
+    public void keepsSegmentsReadableFromTheStart() throws IOException {
+        store = open(64);
+        for (int i = 0; i < 20; i++) {
+            write(LogLevel.INFO, i % 2 == 0 ? SYNC : UI, "record %d of %s", i, "many");
+        }
+        store.query(LogQuery.ALL).close();
+
+        final File segment = folder.getRoot().listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.endsWith(RollingFile.SEGMENT_SUFFIX);
+            }
+        })[0];
+        final BinaryLogReader reader = new BinaryLogReader(new FileInputStream(segment));
+        int records = 0;
+        while (reader.next()) {
+            assertThat(reader.msgFormat()).isEqualTo("record %d of %s");
+            assertThat(reader.args()).containsExactly(records, "many");
+            records++;
+        }
+        reader.close();
+
+        assertThat(records).isEqualTo(20);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogcatChunksTests {
+
+    private static List<String> chunk(final CharSequence message) {
+        final List<String> chunks = new ArrayList<>();
+        final LogcatChunks logcatChunks = new LogcatChunks(new StringBuilder(message));
+        while (logcatChunks.hasNext()) {
+            chunks.add(logcatChunks.next());
+        }
+        return chunks;
+    }
+
+    private static String repeat(final String text, final int times) {
+        final StringBuilder repeated = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            repeated.append(text);
+        }
+        return repeated.toString();
+    }
+
+    private static int utf8Length(final String text) throws UnsupportedEncodingException {
+        return text.getBytes("UTF-8").length;
+    }
+
+    private static String rejoin(final List<String> chunks, final String separator) {
+        final StringBuilder joined = new StringBuilder(chunks.get(0));
+        for (int i = 1; i < chunks.size(); i++) {
+            assertThat(chunks.get(i)).startsWith(LogcatChunks.CONTINUATION);
+            joined.append(separator).append(chunks.get(i).substring(LogcatChunks.CONTINUATION.length()));
+        }
+        return joined.toString();
+    }
+
+    @Test
+    public void leavesAShortMessageWhole() {
+        assertThat(chunk("short message")).containsExactly("short message");
+    }
+
+    @Test
+    public void splitsALongLineIntoFullChunks() throws UnsupportedEncodingException {
+        final String message = repeat("0123456789", 1000);
+
+        final List<String> chunks = chunk(message);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(utf8Length(chunks.get(0))).isEqualTo(LogcatChunks.MAX_CHUNK_BYTES);
+        assertThat(utf8Length(chunks.get(1))).isEqualTo(LogcatChunks.MAX_CHUNK_BYTES);
+        assertThat(rejoin(chunks, "")).isEqualTo(message);
+    }
+
+    @Test
+    public void splitsAtTheLastLineBreakThatFits() {
+        final String line = repeat("x", 99) + "\n";
+        final String message = repeat(line, 100);
+
+        final List<String> chunks = chunk(message);
+
+        for (final String chunk : chunks.subList(0, chunks.size() - 1)) {
+            assertThat(chunk).endsWith("x");
+        }
+        assertThat(chunks.get(0)).hasSize(39 * 100 + 99);
+        assertThat(rejoin(chunks, "\n")).isEqualTo(message);
+    }
+
+    @Test
+    public void neverSplitsACharacterAcrossChunks() throws UnsupportedEncodingException {
+        final String message = "a" + repeat("\u20ac\ud83d\ude00", 2000);
+
+        final List<String> chunks = chunk(message);
+
+        for (final String chunk : chunks) {
+            assertThat(utf8Length(chunk)).isLessThanOrEqualTo(LogcatChunks.MAX_CHUNK_BYTES);
+            assertThat(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))).isFalse();
+        }
+        assertThat(rejoin(chunks, "")).isEqualTo(message);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatConversionException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class MessageTemplateTests {
+
+    private static void assertFormatsLikeStringFormat(final String format, final Object... args) {
+        assertThat(MessageTemplate.compile(format).format(args))
+                .isEqualTo(String.format(Locale.US, format, args));
+    }
+
+    @Test
+    public void compilesTheSupportedConversions() {
+        assertThat(MessageTemplate.compile("%s %d %b %x %% %n").isCompiled()).isTrue();
+    }
+
+    @Test
+    public void doesNotCompileFlagsWidthsOrOtherConversions() {
+        assertThat(MessageTemplate.compile("%5d").isCompiled()).isFalse();
+        assertThat(MessageTemplate.compile("%-s").isCompiled()).isFalse();
+        assertThat(MessageTemplate.compile("%1$s").isCompiled()).isFalse();
+        assertThat(MessageTemplate.compile("%.2f").isCompiled()).isFalse();
+        assertThat(MessageTemplate.compile("%S").isCompiled()).isFalse();
+        assertThat(MessageTemplate.compile("trailing %").isCompiled()).isFalse();
+    }
+
+    @Test
+    public void formatsLikeStringFormat() {
+        assertFormatsLikeStringFormat("%s %d %b %s", "it", 2357, true, "is");
+        assertFormatsLikeStringFormat("no conversions");
+        assertFormatsLikeStringFormat("%s%s", null, "adjacent");
+        assertFormatsLikeStringFormat("[%d] [%d] [%d] [%d] [%d]", (byte) -1, (short) -2, -3, -4L, BigInteger.TEN.negate());
+        assertFormatsLikeStringFormat("[%x] [%x] [%x] [%x] [%x]", (byte) -1, (short) -2, -3, -4L, BigInteger.TEN.negate());
+        assertFormatsLikeStringFormat("%b %b %b %b", null, false, Boolean.TRUE, "anything");
+        assertFormatsLikeStringFormat("%d %x", null, null);
+        assertFormatsLikeStringFormat("100%% done%n");
+        assertFormatsLikeStringFormat("extra args are ignored %s", "a", "b");
+    }
+
+    @Test
+    public void fallsBackForFormatsAndArgumentsItCannotRender() {
+        assertFormatsLikeStringFormat("%.2f %5d", 1.005, 42);
+        assertFormatsLikeStringFormat("%s", new Formattable() {
+            @Override
+            public void formatTo(final Formatter formatter, final int flags, final int width, final int precision) {
+                formatter.format("formattable");
+            }
+        });
+    }
+
+    @Test
+    public void formatsWithoutArgsGivenNullArgs() {
+        assertThat(MessageTemplate.compile("the message").format(null)).isEqualTo("the message");
+    }
+
+    @Test
+    public void throwsLikeStringFormatGivenMissingArgs() {
+        try {
+            MessageTemplate.compile("%s %s").format(new Object[]{"one"});
+            fail("Should Have Thrown");
+        } catch (final MissingFormatArgumentException e) {
+            assertThat(e.getFormatSpecifier()).isEqualTo("%s");
+        }
+    }
+
+    @Test
+    public void throwsLikeStringFormatGivenAMismatchedArgument() {
+        try {
+            MessageTemplate.compile("%d").format(new Object[]{1.5});
+            fail("Should Have Thrown");
+        } catch (final IllegalFormatConversionException e) {
+            assertThat(e.getConversion()).isEqualTo('d');
+        }
+    }
+
+    @Test
+    public void throwsLikeStringFormatGivenAnUnknownConversion() {
+        try {
+            MessageTemplate.compile("%q").format(null);
+            fail("Should Have Thrown");
+        } catch (final UnknownFormatConversionException e) {
+            assertThat(e.getConversion()).isEqualTo("q");
+        }
+    }
+
+    @Test
+    public void cachesTemplatesByFormat() {
+        assertThat(MessageTemplate.of("cached %s")).isSameAs(MessageTemplate.of("cached %s"));
+    }
+
+    @Test
+    public void keepsCachingOnceManyFormatsHaveBeenSeen() {
+        for (int i = 0; i < 1000; i++) {
+            MessageTemplate.of("seen once " + i + " %s");
+        }
+
+        assertThat(MessageTemplate.of("seen later %s")).isSameAs(MessageTemplate.of("seen later %s"));
+    }
+
+    @Test
+    public void doesNotCacheMessagesWithoutConversions() {
+        assertThat(MessageTemplate.of("built by the caller")).isNotSameAs(MessageTemplate.of("built by the caller"));
+        assertThat(MessageTemplate.of("built by the caller").format(new Object[0])).isEqualTo("built by the caller");
+    }
+
+    @Test
+    public void passesMessagesWithoutConversionsThroughAsTheyAre() {
+        final String message = "built by the caller";
+        final StringBuilder out = new StringBuilder("> ");
+
+        MessageTemplate.formatTo(out, message, new Object[]{"ignored"});
+
+        assertThat(out.toString()).isEqualTo("> " + message);
+        assertThat(MessageTemplate.format(message, null)).isSameAs(message);
+        assertThat(MessageTemplate.format("%s and %d", new Object[]{"it", 2})).isEqualTo("it and 2");
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class ThrottleTests {
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<String>());
+    private final Logger logger = new Logger() {
+        @Override
+        boolean isLoggable(final LogLevel level, final LogLevel logLevel) {
+            return level.logAt(logLevel);
+        }
+
+        @Override
+        void write(final LogLevel level, final LogLevel logLevel, final CallSite site, final String threadName, final String msgFormat, final Object[] args) {
+            written.add(level.tag() + " " + MessageTemplate.of(msgFormat).format(args));
+        }
+    };
+
+    @Before
+    public void setup() {
+        FyzLog.writeTo(logger);
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+    }
+
+    @After
+    public void teardown() {
+        FyzLog.updateThrottle(Throttle.NONE);
+        FyzLog.writeToLog();
+    }
+
+    private void logFromOneSite(final int times) {
+        for (int i = 0; i < times; i++) {
+            FyzLog.d("message %d", i);
+        }
+    }
+
+    @Test
+    public void samplingLetsOneInNThrough() {
+        FyzLog.updateThrottle(Throttle.NONE.sample(LogLevel.DEBUG, 3));
+
+        logFromOneSite(7);
+
+        final String suppressed = "D 2 messages suppressed from " + ThrottleTests.class.getName() + ".logFromOneSite";
+        assertThat(written).containsExactly("D message 0", suppressed, "D message 3", suppressed, "D message 6");
+    }
+
+    @Test
+    public void rateLimitingLetsTheBurstThrough() {
+        FyzLog.updateThrottle(Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 3));
+
+        logFromOneSite(10);
+
+        assertThat(written).containsExactly("D message 0", "D message 1", "D message 2");
+    }
+
+    @Test
+    public void suppressionIsSummarizedEveryInterval() {
+        FyzLog.updateThrottle(Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 1).summaryEvery(0));
+
+        logFromOneSite(3);
+
+        final String suppressed = "D 1 messages suppressed from " + ThrottleTests.class.getName() + ".logFromOneSite";
+        assertThat(written).containsExactly("D message 0", suppressed, suppressed);
+    }
+
+    @Test
+    public void suppressionIsWrittenOnceTheSiteGoesQuiet() throws InterruptedException {
+        FyzLog.updateThrottle(Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 1).summaryEvery(20));
+
+        logFromOneSite(3);
+        final long giveUp = System.currentTimeMillis() + 2000;
+        while (written.size() < 2 && System.currentTimeMillis() < giveUp) {
+            Thread.sleep(5);
+        }
+
+        assertThat(written).containsExactly("D message 0",
+                "D 2 messages suppressed from " + ThrottleTests.class.getName() + ".logFromOneSite");
+    }
+
+    @Test
+    public void suppressionIsStillWrittenAfterTheThrottleIsReplaced() throws InterruptedException {
+        FyzLog.updateThrottle(Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 1).summaryEvery(20));
+
+        logFromOneSite(2);
+        FyzLog.updateThrottle(Throttle.NONE);
+        final long giveUp = System.currentTimeMillis() + 2000;
+        while (written.size() < 2 && System.currentTimeMillis() < giveUp) {
+            Thread.sleep(5);
+        }
+
+        assertThat(written).containsExactly("D message 0",
+                "D 1 messages suppressed from " + ThrottleTests.class.getName() + ".logFromOneSite");
+    }
+
+    @Test
+    public void aSiteKeepsItsLimitWhenLookedUpAgain() {
+        final Throttle throttle = Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 1);
+
+        int admitted = 0;
+        for (int i = 0; i < 3; i++) {
+            if (throttle.admit(logger, LogLevel.DEBUG, LogLevel.VERBOSE, CallSite.of("com.example.Chatty", "talk"))) {
+                admitted++;
+            }
+        }
+
+        assertThat(admitted).isEqualTo(1);
+    }
+
+    @Test
+    public void eachSiteHasItsOwnLimit() {
+        FyzLog.updateThrottle(Throttle.NONE.limit(LogLevel.DEBUG, 0.001, 1));
+
+        FyzLog.d("first site");
+        for (int i = 0; i < 2; i++) {
+            FyzLog.d("second site");
+        }
+
+        assertThat(written).containsExactly("D first site", "D second site");
+    }
+
+    @Test
+    public void otherLevelsAreUnlimited() {
+        FyzLog.updateThrottle(Throttle.NONE.sample(LogLevel.DEBUG, 1000).limit(LogLevel.DEBUG, 0.001, 1));
+
+        for (int i = 0; i < 3; i++) {
+            FyzLog.i("info %d", i);
+        }
+
+        assertThat(written).containsExactly("I info 0", "I info 1", "I info 2");
+    }
+
+    @Test
+    public void noThrottleIsEmpty() {
+        assertThat(Throttle.NONE.isEmpty()).isTrue();
+        assertThat(Throttle.NONE.sample(LogLevel.DEBUG, 2).unlimited(LogLevel.DEBUG).isEmpty()).isTrue();
+    }
+}
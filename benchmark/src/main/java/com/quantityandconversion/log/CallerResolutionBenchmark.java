@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of finding the caller, before and after {@link CallSite}.
+ * <p>
+ * {@code legacyFullStackWalk} is the lookup {@link Logger} performed on every call;
+ * the others are the {@link CallerMode}s available now, and {@code hinted} is a call whose caller
+ * was named by the build's log stripping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallerResolutionBenchmark {
+
+    @Benchmark
+    public String legacyFullStackWalk() {
+        return FyzLogBenchmarkEntry.legacyTag();
+    }
+
+    @Benchmark
+    public CallSite always() {
+        return FyzLogBenchmarkEntry.resolve(CallerMode.ALWAYS, LogLevel.DEBUG);
+    }
+
+    @Benchmark
+    public CallSite warnAndAboveAtDebug() {
+        return FyzLogBenchmarkEntry.resolve(CallerMode.WARN_AND_ABOVE, LogLevel.DEBUG);
+    }
+
+    @Benchmark
+    public CallSite warnAndAboveAtWarn() {
+        return FyzLogBenchmarkEntry.resolve(CallerMode.WARN_AND_ABOVE, LogLevel.WARN);
+    }
+
+    @Benchmark
+    public CallSite hinted() {
+        return FyzLogBenchmarkEntry.resolveHinted("com.quantityandconversion.log.CallerResolutionBenchmark", "hinted", "message");
+    }
+
+    @Benchmark
+    public CallSite never() {
+        return FyzLogBenchmarkEntry.resolve(CallerMode.NEVER, LogLevel.DEBUG);
+    }
+}
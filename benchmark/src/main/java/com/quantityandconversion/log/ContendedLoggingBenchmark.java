@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link LoggingBenchmark} with four threads logging from the same call sites at once.
+ * <p>
+ * Shows the cost of what logging threads share: the call site cache and the output stream.
+ */
+@Threads(4)
+public class ContendedLoggingBenchmark extends LoggingBenchmark {
+}
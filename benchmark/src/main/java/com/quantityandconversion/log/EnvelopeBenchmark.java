@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per logged line once the caller is known, by sink.
+ * <p>
+ * With {@link CallerMode#NEVER} nothing is spent finding the caller, leaving the cost of
+ * assembling and emitting the line: AndroidLog should allocate only the String it hands
+ * to {@code android.util.Log}, and the file sink, which takes a CharSequence, nothing at all.
+ * Run with {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeBenchmark {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Param({"AndroidLog", "File"})
+    public String sink;
+
+    @Param({"NEVER", "ALWAYS"})
+    public String callerMode;
+
+    private final String name = "sync";
+    private final long took = 2357;
+    private File directory;
+    private RollingFile rollingFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if ("File".equals(sink)) {
+            directory = File.createTempFile("fyzlog", "bench");
+            if (!directory.delete() || !directory.mkdir()) {
+                throw new IOException("Unable to create " + directory);
+            }
+            rollingFile = new RollingFile(directory, 16 * 1024 * 1024, HOUR, 64 * 1024 * 1024, HOUR);
+            FyzLog.writeTo(new FileLogger(rollingFile));
+        } else {
+            FyzLog.writeToLog();
+        }
+        FyzLog.updateCallerMode("NEVER".equals(callerMode) ? CallerMode.NEVER : CallerMode.ALWAYS);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        FyzLog.writeToLog();
+        FyzLog.updateCallerMode(CallerMode.ALWAYS);
+        if (rollingFile != null) {
+            rollingFile.close();
+            for (final File segment : rollingFile.segments()) {
+                segment.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    @Benchmark
+    public void objectAndLong() {
+        FyzLog.d("%s took %d ms", name, took);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording one event into a {@link FlightRecorder}, alone and with four threads recording.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderBenchmark {
+
+    private final FlightRecorder recorder = new FlightRecorder(4096, null);
+    private final Object[] args = {"sync", 2357};
+
+    @Benchmark
+    public void record() {
+        recorder.record(LogLevel.DEBUG, "%s took %d ms", args);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        recorder.record(LogLevel.DEBUG, "%s took %d ms", args);
+    }
+}
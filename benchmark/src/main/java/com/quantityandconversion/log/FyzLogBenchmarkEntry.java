@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+/**
+ * Stands in for {@link FyzLog} on the stack.
+ * <p>
+ * The class name starts with FyzLog's, so caller lookups treat it as part of the logger
+ * and report the benchmark method as the call site, exactly as a real log call would.
+ */
+/* package */ final class FyzLogBenchmarkEntry {
+//Understands looking like FyzLog to the caller lookup
+
+    private static final String LOGGER_CLASS_NAME = FyzLog.class.getName();
+    private static final String TAG_PREFIX = "FYZ:";
+
+    private FyzLogBenchmarkEntry() {
+    }
+
+    /* package */ static CallSite resolve(final CallerMode callerMode, final LogLevel level) {
+        return callerMode.callSite(level, null);
+    }
+
+    /**
+     * What a call gets once the build has named its caller.
+     */
+    /* package */ static CallSite resolveHinted(final String className, final String methodName, final String msgFormat) {
+        FyzLog.caller(className, methodName, msgFormat);
+        return CallerMode.ALWAYS.callSite(LogLevel.DEBUG, msgFormat);
+    }
+
+    /**
+     * The caller lookup as it was before {@link CallSite}: a full stack walk,
+     * a prefix check on every frame and a fresh tag per call.
+     */
+    /* package */ static String legacyTag() {
+        final StackTraceElement frame = getCallingStackTraceElement();
+        final String fullClassName = frame.getClassName();
+        final String className = fullClassName.substring(fullClassName.lastIndexOf('.') + 1);
+        return TAG_PREFIX + className + frame.getMethodName();
+    }
+
+    private static StackTraceElement getCallingStackTraceElement() {
+        boolean hitLogger = false;
+        for (final StackTraceElement ste : Thread.currentThread().getStackTrace()) {
+            final boolean isLogger = ste.getClassName().startsWith(LOGGER_CLASS_NAME);
+            hitLogger = hitLogger || isLogger;
+            if (hitLogger && !isLogger) {
+                return ste;
+            }
+        }
+        return new StackTraceElement(LOGGER_CLASS_NAME,
+                "getCallingStackTraceElement",
+                null,
+                -1);
+    }
+}
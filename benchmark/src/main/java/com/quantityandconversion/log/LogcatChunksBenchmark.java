@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting a 100 KB message into logcat entries: {@link LogcatChunks} against the usual
+ * {@code substring} loop, which counts chars rather than bytes and copies the remainder every time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogcatChunksBenchmark {
+
+    private static final int NAIVE_CHUNK_CHARS = 4000;
+
+    private final StringBuilder message = new StringBuilder();
+
+    @Setup
+    public void setup() {
+        while (message.length() < 100 * 1024) {
+            message.append("{\"id\":").append(message.length()).append(",\"name\":\"item\",\"tags\":[\"a\",\"b\"]}");
+        }
+    }
+
+    @Benchmark
+    public void chunks(final Blackhole blackhole) {
+        final LogcatChunks chunks = new LogcatChunks(message);
+        while (chunks.hasNext()) {
+            blackhole.consume(chunks.next());
+        }
+    }
+
+    @Benchmark
+    public void naiveSubstring(final Blackhole blackhole) {
+        String remaining = message.toString();
+        while (remaining.length() > NAIVE_CHUNK_CHARS) {
+            blackhole.consume(remaining.substring(0, NAIVE_CHUNK_CHARS));
+            remaining = remaining.substring(NAIVE_CHUNK_CHARS);
+        }
+        blackhole.consume(remaining);
+    }
+}
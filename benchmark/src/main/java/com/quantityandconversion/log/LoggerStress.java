@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import android.util.Log;
+import android.util.Printer;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Logs from many threads at once through {@link FyzLog} into one backend, then reads back what
+ * the backend wrote.
+ * <p>
+ * Producer {@code p} logs "stress p n" for n counting up from 0, from a thread named "stress-p".
+ * The {@link Report} counts messages that never arrived, arrived more than once, or arrived
+ * as a line mixed up with another, and measures throughput, the latency of each call and
+ * the bytes each producer thread allocated per message.
+ * <pre>
+ * ./gradlew :benchmark:stress -PstressArgs="16 5000"
+ * </pre>
+ */
+public final class LoggerStress {
+//Understands how a logger holds up under many threads at once
+
+    private static final String FORMAT = "stress %d %d";
+    private static final String THREAD_PREFIX = "stress-";
+    //Timestamps, levels and tags come before "[thread] method : message", and have no brackets
+    private static final Pattern LINE = Pattern.compile(
+            "[^\\[\\]]*\\[" + THREAD_PREFIX + "(\\d+)] \\S+ : stress (\\d+) (\\d+)");
+
+    private final int threads;
+    private final int messagesPerThread;
+
+    /* package */ LoggerStress(final int threads, final int messagesPerThread) {
+        if (threads <= 0 || messagesPerThread <= 0) {
+            throw new IllegalArgumentException("LoggerStress needs at least one thread and one message");
+        }
+        this.threads = threads;
+        this.messagesPerThread = messagesPerThread;
+    }
+
+    /**
+     * Runs every backend with the threads and messages per thread given, 8 and 2000 by default.
+     */
+    public static void main(final String[] args) throws Exception {
+        final int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        final int messages = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        final LoggerStress stress = new LoggerStress(threads, messages);
+        for (final Backend backend : Backend.all()) {
+            System.out.println(stress.run(backend));
+        }
+    }
+
+    /**
+     * Logs through {@code backend} at VERBOSE, restoring FyzLog's settings afterwards.
+     */
+    /* package */ Report run(final Backend backend) throws IOException, InterruptedException {
+        final LogConfig saved = FyzLog.config();
+        final Logger logger = backend.open();
+        final Producer[] producers = new Producer[threads];
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch go = new CountDownLatch(1);
+        final long started;
+        final long finished;
+        final List<String> lines;
+        try {
+            FyzLog.updateConfig(saved.withLogger(logger).withLogLevel(LogLevel.VERBOSE));
+            for (int i = 0; i < threads; i++) {
+                producers[i] = new Producer(i, messagesPerThread, ready, go);
+                producers[i].start();
+            }
+            ready.await();
+            started = System.nanoTime();
+            go.countDown();
+            for (final Producer producer : producers) {
+                producer.join();
+            }
+            finished = System.nanoTime();
+        } finally {
+            FyzLog.updateConfig(saved);
+            lines = backend.close();
+        }
+        return report(backend.name(), producers, lines, finished - started);
+    }
+
+    private Report report(final String name, final Producer[] producers, final List<String> lines, final long elapsedNanos) {
+        final int[][] seen = new int[threads][messagesPerThread];
+        int malformed = 0;
+        for (final String line : lines) {
+            final Matcher matcher = LINE.matcher(line);
+            if (!matcher.matches() || !matcher.group(1).equals(matcher.group(2))) {
+                malformed++;
+                continue;
+            }
+            final int producer = Integer.parseInt(matcher.group(2));
+            final int message = Integer.parseInt(matcher.group(3));
+            if (producer >= threads || message >= messagesPerThread) {
+                malformed++;
+                continue;
+            }
+            seen[producer][message]++;
+        }
+        int lost = 0;
+        int duplicated = 0;
+        for (final int[] producer : seen) {
+            for (final int count : producer) {
+                if (count == 0) {
+                    lost++;
+                } else if (count > 1) {
+                    duplicated += count - 1;
+                }
+            }
+        }
+
+        final int messages = threads * messagesPerThread;
+        final long[] latencies = new long[messages];
+        long allocated = 0;
+        for (final Producer producer : producers) {
+            System.arraycopy(producer.latencies, 0, latencies, producer.index * messagesPerThread, messagesPerThread);
+            allocated = producer.allocated < 0 || allocated < 0 ? -1 : allocated + producer.allocated;
+        }
+        Arrays.sort(latencies);
+        return new Report(name, threads, messages, lost, duplicated, malformed,
+                messages * 1e9 / elapsedNanos, percentile(latencies, 0.5), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[messages - 1], allocated < 0 ? -1 : allocated / messages);
+    }
+
+    private static long percentile(final long[] sorted, final double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+
+    private static final class Producer extends Thread {
+        private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        private final int index;
+        private final long[] latencies;
+        private final CountDownLatch ready;
+        private final CountDownLatch go;
+        private long allocated = -1;
+
+        private Producer(final int index, final int messages, final CountDownLatch ready, final CountDownLatch go) {
+            super(THREAD_PREFIX + index);
+            this.index = index;
+            this.latencies = new long[messages];
+            this.ready = ready;
+            this.go = go;
+        }
+
+        @Override
+        public void run() {
+            ready.countDown();
+            try {
+                go.await();
+            } catch (final InterruptedException e) {
+                return;
+            }
+            final long allocatedBefore = allocatedBytes();
+            for (int i = 0; i < latencies.length; i++) {
+                final long start = System.nanoTime();
+                FyzLog.i(FORMAT, index, i);
+                latencies[i] = System.nanoTime() - start;
+            }
+            final long allocatedAfter = allocatedBytes();
+            if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                allocated = allocatedAfter - allocatedBefore;
+            }
+        }
+
+        /**
+         * @return what this thread has allocated so far, or -1 where the JVM can't say
+         */
+        private long allocatedBytes() {
+            if (threadBean instanceof com.sun.management.ThreadMXBean) {
+                return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(getId());
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * What the harness measured for one backend.
+     */
+    /* package */ static final class Report {
+        /* package */ final String name;
+        /* package */ final int threads;
+        /* package */ final int messages;
+        /* package */ final int lost;
+        /* package */ final int duplicated;
+        /* package */ final int malformed;
+        /* package */ final double messagesPerSecond;
+        /* package */ final long p50Nanos;
+        /* package */ final long p99Nanos;
+        /* package */ final long p999Nanos;
+        /* package */ final long maxNanos;
+        /** -1 where the JVM can't measure allocation per thread */
+        /* package */ final long bytesPerMessage;
+
+        private Report(final String name, final int threads, final int messages, final int lost, final int duplicated, final int malformed,
+                       final double messagesPerSecond, final long p50Nanos, final long p99Nanos, final long p999Nanos, final long maxNanos,
+                       final long bytesPerMessage) {
+            this.name = name;
+            this.threads = threads;
+            this.messages = messages;
+            this.lost = lost;
+            this.duplicated = duplicated;
+            this.malformed = malformed;
+            this.messagesPerSecond = messagesPerSecond;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.p999Nanos = p999Nanos;
+            this.maxNanos = maxNanos;
+            this.bytesPerMessage = bytesPerMessage;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "%-10s %d threads x %d: lost=%d duplicated=%d malformed=%d %.0f msg/s p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus %d B/msg",
+                    name, threads, messages / threads, lost, duplicated, malformed, messagesPerSecond,
+                    p50Nanos / 1e3, p99Nanos / 1e3, p999Nanos / 1e3, maxNanos / 1e3, bytesPerMessage);
+        }
+    }
+
+    /**
+     * A logger to stress and a way to read back what it wrote.
+     */
+    /* package */ static abstract class Backend {
+    //Understands capturing a logger's output
+
+        /* package */ static final Backend SYSTEM_OUT = new Backend("SystemOut") {
+            private PrintStream original;
+            private Lines captured;
+
+            @Override
+            /* package */ Logger open() {
+                original = System.out;
+                captured = new Lines();
+                System.setOut(new PrintStream(captured, true));
+                return Logger.SystemOut;
+            }
+
+            @Override
+            /* package */ List<String> close() {
+                System.setOut(original);
+                return captured.lines();
+            }
+        };
+
+        /* package */ static final Backend ANDROID_LOG = new Backend("AndroidLog") {
+            private List<String> captured;
+
+            @Override
+            /* package */ Logger open() {
+                captured = Collections.synchronizedList(new ArrayList<String>());
+                Log.printer = new Printer() {
+                    @Override
+                    public void println(final String x) {
+                        captured.add(x);
+                    }
+                };
+                return Logger.AndroidLog;
+            }
+
+            @Override
+            /* package */ List<String> close() {
+                Log.printer = null;
+                return captured;
+            }
+        };
+
+        /* package */ static final Backend FILE = new Backend("File") {
+            private File directory;
+            private FileLogger logger;
+
+            @Override
+            /* package */ Logger open() throws IOException {
+                directory = temporaryDirectory();
+                logger = new FileLogger(rollingFile(directory));
+                return logger;
+            }
+
+            @Override
+            /* package */ List<String> close() throws IOException {
+                logger.close();
+                return readTextSegments(directory);
+            }
+        };
+
+        /* package */ static final Backend ASYNC_FILE = new Backend("AsyncFile") {
+            private File directory;
+            private FileLogger fileLogger;
+            private AsyncLogger logger;
+
+            @Override
+            /* package */ Logger open() throws IOException {
+                directory = temporaryDirectory();
+                fileLogger = new FileLogger(rollingFile(directory));
+                logger = new AsyncLogger(fileLogger, 1024, BackPressure.BLOCK);
+                return logger;
+            }
+
+            @Override
+            /* package */ List<String> close() throws IOException, InterruptedException {
+                logger.shutdown();
+                fileLogger.close();
+                return readTextSegments(directory);
+            }
+        };
+
+        /* package */ static final Backend BINARY = new Backend("Binary") {
+            private File directory;
+            private BinaryLogger logger;
+            private RollingFile file;
+
+            @Override
+            /* package */ Logger open() throws IOException {
+                directory = temporaryDirectory();
+                file = rollingFile(directory);
+                logger = new BinaryLogger(file);
+                return logger;
+            }
+
+            @Override
+            /* package */ List<String> close() throws IOException {
+                logger.close();
+                final List<String> lines = new ArrayList<>();
+                for (final File segment : file.segments()) {
+                    final BinaryLogReader reader = new BinaryLogReader(new FileInputStream(segment));
+                    try {
+                        while (reader.next()) {
+                            lines.add(reader.systemOutLine());
+                        }
+                    } finally {
+                        reader.close();
+                    }
+                }
+                delete(directory);
+                return lines;
+            }
+        };
+
+        /* package */ static final Backend STORE = new Backend("Store") {
+            private File directory;
+            private LogStore store;
+
+            @Override
+            /* package */ Logger open() throws IOException {
+                directory = temporaryDirectory();
+                store = new LogStore(directory, 256 * 1024, HOUR, 64 * 1024 * 1024, HOUR, 16 * 1024);
+                return store.logger();
+            }
+
+            @Override
+            /* package */ List<String> close() throws IOException {
+                final List<String> lines = new ArrayList<>();
+                final LogStore.Cursor cursor = store.query(LogQuery.ALL);
+                try {
+                    while (cursor.next()) {
+                        lines.add(cursor.systemOutLine());
+                    }
+                } finally {
+                    cursor.close();
+                    store.close();
+                }
+                delete(directory);
+                return lines;
+            }
+        };
+
+        private static final long HOUR = 60 * 60 * 1000;
+
+        private final String name;
+
+        private Backend(final String name) {
+            this.name = name;
+        }
+
+        /* package */ static List<Backend> all() {
+            return Arrays.asList(SYSTEM_OUT, ANDROID_LOG, FILE, ASYNC_FILE, BINARY, STORE);
+        }
+
+        /* package */ String name() {
+            return name;
+        }
+
+        /* package */
+        abstract Logger open() throws IOException;
+
+        /**
+         * Stops the logger and returns every line it wrote.
+         */
+        /* package */
+        abstract List<String> close() throws IOException, InterruptedException;
+
+        private static File temporaryDirectory() throws IOException {
+            return Files.createTempDirectory("fyzlog-stress").toFile();
+        }
+
+        private static RollingFile rollingFile(final File directory) {
+            return new RollingFile(directory, 256 * 1024, HOUR, 64 * 1024 * 1024, HOUR);
+        }
+
+        private static List<String> readTextSegments(final File directory) throws IOException {
+            final List<String> lines = new ArrayList<>();
+            final File[] segments = directory.listFiles();
+            Arrays.sort(segments);
+            for (final File segment : segments) {
+                final BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(segment), "UTF-8"));
+                try {
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        lines.add(line);
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+            delete(directory);
+            return lines;
+        }
+
+        private static void delete(final File directory) {
+            final File[] files = directory.listFiles();
+            if (files != null) {
+                for (final File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    /**
+     * Collects what is printed, a line at a time.
+     */
+    private static final class Lines extends OutputStream {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public synchronized void write(final int b) throws IOException {
+            if (b == '\r') {
+                return;
+            }
+            if (b == '\n') {
+                lines.add(line.toString("UTF-8"));
+                line.reset();
+            } else {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public synchronized void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+
+        private synchronized List<String> lines() {
+            return new ArrayList<>(lines);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of {@link FyzLog#d} on one thread, through each {@link Logger}, at a level that is
+ * and a level that isn't logged, with and without format args, and as a {@link LogEvent}.
+ * <p>
+ * {@code disabled} logs at {@link LogLevel#ERROR} so debug messages are filtered. SystemOut writes
+ * every level by design, so its disabled numbers match its enabled ones. SystemOut's output goes to
+ * a stream that discards it, after being encoded; AndroidLog ends at the stubbed {@code android.util.Log}.
+ * <p>
+ * Run with {@code -prof gc} (the default for the jmh task) to see the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"SystemOut", "AndroidLog"})
+    public String logger;
+
+    @Param({"enabled", "disabled"})
+    public String level;
+
+    private final String name = "sync";
+    private final Object count = 2357;
+    private final String state = "done";
+    private final int value = 17;
+
+    private PrintStream systemOut;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        systemOut = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(final int b) {
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+            }
+        }));
+        if ("SystemOut".equals(logger)) {
+            FyzLog.writeToSystem();
+        } else {
+            FyzLog.writeToLog();
+        }
+        FyzLog.updateCurrentLogLevel("enabled".equals(level) ? LogLevel.VERBOSE : LogLevel.ERROR);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        System.setOut(systemOut);
+        FyzLog.writeToLog();
+        FyzLog.updateCurrentLogLevel(LogLevel.VERBOSE);
+    }
+
+    @Benchmark
+    public void message() {
+        FyzLog.d("the message");
+    }
+
+    @Benchmark
+    public void intArg() {
+        FyzLog.d("value %d", value);
+    }
+
+    @Benchmark
+    public void threeArgs() {
+        FyzLog.d("%s took %d ms and is %s", name, count, state);
+    }
+
+    @Benchmark
+    public void varargs() {
+        FyzLog.d("%s took %d ms and is %s after %d", name, count, state, value);
+    }
+
+    @Benchmark
+    public void event() {
+        FyzLog.atDebug().kv("name", name).kv("ms", value).kv("state", state).log("took");
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code fyzlog} block of a build script.
+ * <pre>
+ * fyzlog {
+ *     stripBelow release: 'INFO'
+ *     injectCallers true
+ * }
+ * </pre>
+ */
+public class FyzLogExtension {
+//Understands which log calls a build keeps
+
+    private final Map<String, String> stripBelow = new HashMap<>();
+    private boolean injectCallers;
+
+    /**
+     * @param levels build type to the lowest level kept in it, e.g. {@code release: 'INFO'}
+     */
+    public void stripBelow(final Map<String, String> levels) {
+        for (final Map.Entry<String, String> entry : levels.entrySet()) {
+            final String level = entry.getValue().toUpperCase();
+            if (!LogStripper.LEVELS.contains(level)) {
+                throw new IllegalArgumentException("Unknown log level " + entry.getValue() + " for " + entry.getKey()
+                        + "; expected one of " + LogStripper.LEVELS);
+            }
+            stripBelow.put(entry.getKey(), level);
+        }
+    }
+
+    /**
+     * Whether each kept call names its caller, so {@code CallerMode} never walks the stack for it.
+     */
+    public void injectCallers(final boolean injectCallers) {
+        this.injectCallers = injectCallers;
+    }
+
+    public void setInjectCallers(final boolean injectCallers) {
+        injectCallers(injectCallers);
+    }
+
+    /**
+     * @return the lowest level kept in the build type, or null to keep them all
+     */
+    /* package */ String minimumLevel(final String buildType) {
+        return stripBelow.get(buildType);
+    }
+
+    /* package */ boolean injectCallers() {
+        return injectCallers;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle;
+
+import com.android.build.gradle.AppExtension;
+import com.android.build.gradle.api.ApplicationVariant;
+
+import org.gradle.api.Action;
+import org.gradle.api.GradleException;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code apply plugin: 'com.quantityandconversion.fyzlog'}, after the Android application plugin.
+ */
+public class FyzLogPlugin implements Plugin<Project> {
+//Understands adding log stripping to an Android build
+
+    @Override
+    public void apply(final Project project) {
+        final FyzLogExtension extension = project.getExtensions().create("fyzlog", FyzLogExtension.class);
+        final AppExtension android = project.getExtensions().findByType(AppExtension.class);
+        if (android == null) {
+            throw new GradleException("Apply com.android.application before com.quantityandconversion.fyzlog");
+        }
+
+        final Map<String, String> buildTypes = new HashMap<>();
+        android.getApplicationVariants().all(new Action<ApplicationVariant>() {
+            @Override
+            public void execute(final ApplicationVariant variant) {
+                buildTypes.put(variant.getName(), variant.getBuildType().getName());
+            }
+        });
+        android.registerTransform(new StripLogsTransform(extension, buildTypes));
+    }
+}
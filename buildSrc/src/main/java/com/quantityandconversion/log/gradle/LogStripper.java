@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.AnalyzerAdapter;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites compiled classes so log calls below a level are gone.
+ * <p>
+ * A removed call takes the instructions that build its arguments with it, including the varargs
+ * array, boxing and any method calls: a stripped call behaves as if it were inside {@code if (false)}.
+ * Where the arguments store to a local or branch, only the call is removed and its arguments are
+ * popped, so the method still verifies. Level guards such as {@code isDebugLoggable()} become
+ * {@code false}, and {@code atDebug()...log()} chains are removed whole.
+ * <p>
+ * With {@code injectCallers}, each remaining call whose format is a string constant is preceded by
+ * {@code FyzLog.caller(class, method, format)}, so the caller isn't looked up from the stack.
+ * The logging library's own package is left as it is.
+ */
+/* package */ final class LogStripper {
+//Understands taking logging out of a build
+
+    /* package */ static final List<String> LEVELS = Collections.unmodifiableList(
+            Arrays.asList("VERBOSE", "DEBUG", "INFO", "WARN", "ERROR", "ASSERT"));
+
+    private static final String STRING = "Ljava/lang/String;";
+    private static final List<String> LOG_METHODS = Arrays.asList("v", "d", "i", "w", "e", "wtf");
+    private static final List<String> GUARD_METHODS = Arrays.asList(
+            "isVerboseLoggable", "isDebugLoggable", "isInfoLoggable", "isWarnLoggable", "isErrorLoggable", "isWtfLoggable");
+    private static final List<String> EVENT_METHODS = Arrays.asList(
+            "atVerbose", "atDebug", "atInfo", "atWarn", "atError", "atWtf");
+
+    private final String logger;
+    private final String event;
+    private final String libraryPackage;
+    private final int minimumLevel;
+    private final boolean injectCallers;
+
+    /**
+     * @param logger        internal name of the logging class, e.g. com/quantityandconversion/log/FyzLog
+     * @param event         internal name of the class its {@code atDebug()} and siblings return
+     * @param minimumLevel  the lowest of {@link #LEVELS} to keep; calls below it are removed
+     * @param injectCallers whether to name the caller of each call that is kept
+     */
+    /* package */ LogStripper(final String logger, final String event, final String minimumLevel, final boolean injectCallers) {
+        if (!LEVELS.contains(minimumLevel)) {
+            throw new IllegalArgumentException("Unknown log level " + minimumLevel + "; expected one of " + LEVELS);
+        }
+        this.logger = logger;
+        this.event = event;
+        this.libraryPackage = logger.substring(0, logger.lastIndexOf('/') + 1);
+        this.minimumLevel = LEVELS.indexOf(minimumLevel);
+        this.injectCallers = injectCallers;
+    }
+
+    /**
+     * @return the rewritten class, or {@code classFile} itself if nothing needed changing
+     */
+    /* package */ byte[] strip(final byte[] classFile) {
+        final ClassReader reader = new ClassReader(classFile);
+        if (reader.getClassName().startsWith(libraryPackage)) {
+            return classFile;
+        }
+        final ClassNode classNode = new ClassNode();
+        reader.accept(classNode, ClassReader.EXPAND_FRAMES);
+
+        boolean changed = false;
+        for (final Object method : classNode.methods) {
+            if (callsLogger((MethodNode) method)) {
+                changed |= strip(classNode.name, (MethodNode) method);
+            }
+        }
+        if (!changed) {
+            return classFile;
+        }
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classNode.accept(writer);
+        return writer.toByteArray();
+    }
+
+    private boolean callsLogger(final MethodNode method) {
+        for (final AbstractInsnNode insn : method.instructions.toArray()) {
+            if (insn instanceof MethodInsnNode && ((MethodInsnNode) insn).owner.equals(logger)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean strip(final String owner, final MethodNode method) {
+        final InsnList insns = method.instructions;
+        final AbstractInsnNode[] array = insns.toArray();
+        final int[] heights = stackHeights(owner, method, array);
+        final Set<LabelNode> tryCatchLabels = tryCatchLabels(method);
+
+        final Set<AbstractInsnNode> removals = Collections.newSetFromMap(new IdentityHashMap<AbstractInsnNode, Boolean>());
+        final List<MethodInsnNode> guards = new ArrayList<>();
+        final List<MethodInsnNode> unstrippable = new ArrayList<>();
+        final List<LdcInsnNode> hints = new ArrayList<>();
+
+        for (int i = 0; i < array.length; i++) {
+            if (!(array[i] instanceof MethodInsnNode)) {
+                continue;
+            }
+            final MethodInsnNode call = (MethodInsnNode) array[i];
+            if (call.owner.equals(logger) && LOG_METHODS.contains(call.name) && call.desc.startsWith("(" + STRING)) {
+                final int start = argumentsStart(array, heights, tryCatchLabels, i, argumentSlots(call.desc));
+                if (LOG_METHODS.indexOf(call.name) >= minimumLevel) {
+                    if (injectCallers && start >= 0 && isStringConstant(array[start])) {
+                        hints.add((LdcInsnNode) array[start]);
+                    }
+                } else if (start >= 0) {
+                    markRemoved(removals, array, start, i);
+                } else {
+                    unstrippable.add(call);
+                }
+            } else if (call.owner.equals(logger) && GUARD_METHODS.indexOf(call.name) >= 0
+                    && GUARD_METHODS.indexOf(call.name) < minimumLevel) {
+                guards.add(call);
+            } else if (call.owner.equals(event) && call.name.equals("log") && call.desc.equals("(" + STRING + ")V")) {
+                final int start = argumentsStart(array, heights, tryCatchLabels, i, 2);
+                if (start >= 0 && isEventStartBelowMinimum(array[start])) {
+                    markRemoved(removals, array, start, i);
+                }
+            }
+        }
+        if (removals.isEmpty() && guards.isEmpty() && unstrippable.isEmpty() && hints.isEmpty()) {
+            return false;
+        }
+
+        for (final LdcInsnNode msgFormat : hints) {
+            if (!removals.contains(msgFormat)) {
+                insns.insertBefore(msgFormat, callerHint(owner, method.name, (String) msgFormat.cst));
+            }
+        }
+        for (final MethodInsnNode guard : guards) {
+            if (!removals.contains(guard)) {
+                insns.set(guard, new InsnNode(Opcodes.ICONST_0));
+            }
+        }
+        for (final MethodInsnNode call : unstrippable) {
+            if (!removals.contains(call)) {
+                insns.insertBefore(call, pops(call.desc));
+                insns.remove(call);
+            }
+        }
+        for (final AbstractInsnNode removed : removals) {
+            insns.remove(removed);
+        }
+        return true;
+    }
+
+    /**
+     * The stack height before each instruction, in slots; -1 where it isn't known.
+     */
+    private static int[] stackHeights(final String owner, final MethodNode method, final AbstractInsnNode[] array) {
+        final AnalyzerAdapter analyzer = new AnalyzerAdapter(owner, method.access, method.name, method.desc, null);
+        final int[] heights = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            heights[i] = analyzer.stack == null ? -1 : analyzer.stack.size();
+            array[i].accept(analyzer);
+        }
+        return heights;
+    }
+
+    private static Set<LabelNode> tryCatchLabels(final MethodNode method) {
+        final Set<LabelNode> labels = new HashSet<>();
+        for (final Object tryCatchBlock : method.tryCatchBlocks) {
+            final TryCatchBlockNode block = (TryCatchBlockNode) tryCatchBlock;
+            labels.add(block.start);
+            labels.add(block.end);
+            labels.add(block.handler);
+        }
+        return labels;
+    }
+
+    private static int argumentSlots(final String desc) {
+        return (Type.getArgumentsAndReturnSizes(desc) >> 2) - 1;
+    }
+
+    /**
+     * Finds the first instruction pushing the {@code slots} on the stack at {@code call}, when
+     * everything from there to the call can be removed without breaking the method.
+     *
+     * @return its index, or -1 if the arguments can't be removed
+     */
+    private static int argumentsStart(final AbstractInsnNode[] array, final int[] heights, final Set<LabelNode> tryCatchLabels,
+                                      final int call, final int slots) {
+        if (heights[call] < 0) {
+            return -1;
+        }
+        final int base = heights[call] - slots;
+        for (int i = call - 1; i >= 0; i--) {
+            final AbstractInsnNode insn = array[i];
+            if (insn instanceof FrameNode || tryCatchLabels.contains(insn) || branches(insn) || storesLocal(insn)) {
+                return -1;
+            }
+            if (insn.getOpcode() < 0) {
+                continue;
+            }
+            if (heights[i] < base) {
+                return -1;
+            }
+            if (heights[i] == base) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean branches(final AbstractInsnNode insn) {
+        return insn instanceof JumpInsnNode || insn instanceof TableSwitchInsnNode || insn instanceof LookupSwitchInsnNode
+                || insn.getOpcode() == Opcodes.ATHROW;
+    }
+
+    private static boolean storesLocal(final AbstractInsnNode insn) {
+        if (insn instanceof IincInsnNode) {
+            return true;
+        }
+        final int opcode = insn.getOpcode();
+        return insn instanceof VarInsnNode && opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE;
+    }
+
+    private static boolean isStringConstant(final AbstractInsnNode insn) {
+        return insn instanceof LdcInsnNode && ((LdcInsnNode) insn).cst instanceof String;
+    }
+
+    private boolean isEventStartBelowMinimum(final AbstractInsnNode insn) {
+        if (!(insn instanceof MethodInsnNode)) {
+            return false;
+        }
+        final MethodInsnNode call = (MethodInsnNode) insn;
+        final int level = EVENT_METHODS.indexOf(call.name);
+        return call.owner.equals(logger) && level >= 0 && level < minimumLevel;
+    }
+
+    private static void markRemoved(final Set<AbstractInsnNode> removals, final AbstractInsnNode[] array,
+                                    final int start, final int end) {
+        for (int i = start; i <= end; i++) {
+            if (array[i].getOpcode() >= 0) {
+                removals.add(array[i]);
+            }
+        }
+    }
+
+    private InsnList callerHint(final String owner, final String methodName, final String msgFormat) {
+        final InsnList hint = new InsnList();
+        hint.add(new LdcInsnNode(Type.getObjectType(owner).getClassName()));
+        hint.add(new LdcInsnNode(methodName));
+        hint.add(new LdcInsnNode(msgFormat));
+        hint.add(new MethodInsnNode(Opcodes.INVOKESTATIC, logger, "caller", "(" + STRING + STRING + STRING + ")V", false));
+        return hint;
+    }
+
+    private static InsnList pops(final String desc) {
+        final InsnList pops = new InsnList();
+        final Type[] arguments = Type.getArgumentTypes(desc);
+        for (int i = arguments.length - 1; i >= 0; i--) {
+            pops.add(new InsnNode(arguments[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP));
+        }
+        return pops;
+    }
+}
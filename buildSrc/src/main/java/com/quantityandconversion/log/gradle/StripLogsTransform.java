@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle;
+
+import com.android.build.api.transform.DirectoryInput;
+import com.android.build.api.transform.Format;
+import com.android.build.api.transform.JarInput;
+import com.android.build.api.transform.QualifiedContent;
+import com.android.build.api.transform.Transform;
+import com.android.build.api.transform.TransformException;
+import com.android.build.api.transform.TransformInput;
+import com.android.build.api.transform.TransformInvocation;
+import com.android.build.api.transform.TransformOutputProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Runs the {@link LogStripper} over the app's own classes and its modules'. Libraries from
+ * elsewhere are left alone. Every class is rewritten on every build; the transform isn't incremental.
+ */
+/* package */ final class StripLogsTransform extends Transform {
+//Understands taking logging out of a variant's classes
+
+    private static final String LOGGER = "com/quantityandconversion/log/FyzLog";
+    private static final String EVENT = "com/quantityandconversion/log/LogEvent";
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final FyzLogExtension extension;
+    private final Map<String, String> buildTypes;
+
+    /**
+     * @param buildTypes variant name to its build type; filled in as Android creates the variants
+     */
+    /* package */ StripLogsTransform(final FyzLogExtension extension, final Map<String, String> buildTypes) {
+        this.extension = extension;
+        this.buildTypes = buildTypes;
+    }
+
+    @Override
+    public String getName() {
+        return "fyzlogStrip";
+    }
+
+    @Override
+    public Set<QualifiedContent.ContentType> getInputTypes() {
+        return Collections.<QualifiedContent.ContentType>singleton(QualifiedContent.DefaultContentType.CLASSES);
+    }
+
+    @Override
+    public Set<QualifiedContent.Scope> getScopes() {
+        return EnumSet.of(QualifiedContent.Scope.PROJECT, QualifiedContent.Scope.SUB_PROJECTS);
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return false;
+    }
+
+    @Override
+    public void transform(final TransformInvocation invocation) throws TransformException, InterruptedException, IOException {
+        final LogStripper stripper = stripperFor(variantOf(invocation.getContext().getPath()));
+        final TransformOutputProvider outputs = invocation.getOutputProvider();
+        outputs.deleteAll();
+
+        for (final TransformInput input : invocation.getInputs()) {
+            for (final DirectoryInput directory : input.getDirectoryInputs()) {
+                final File out = outputs.getContentLocation(directory.getName(), directory.getContentTypes(),
+                        directory.getScopes(), Format.DIRECTORY);
+                copyDirectory(stripper, directory.getFile(), out);
+            }
+            for (final JarInput jar : input.getJarInputs()) {
+                final File out = outputs.getContentLocation(jar.getName(), jar.getContentTypes(),
+                        jar.getScopes(), Format.JAR);
+                copyJar(stripper, jar.getFile(), out);
+            }
+        }
+    }
+
+    /**
+     * The variant a run is for, from its task path, which ends {@code For<Variant>}. AGP 2.3's
+     * {@link com.android.build.api.transform.Context} doesn't name the variant itself.
+     *
+     * @return null when the task isn't for a variant of the app, such as its tests
+     */
+    private String variantOf(final String taskPath) {
+        String found = null;
+        for (final String variantName : buildTypes.keySet()) {
+            final String suffix = "For" + Character.toUpperCase(variantName.charAt(0)) + variantName.substring(1);
+            if (taskPath.endsWith(suffix) && (found == null || variantName.length() > found.length())) {
+                found = variantName;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return null when the variant keeps every call as written
+     */
+    private LogStripper stripperFor(final String variantName) {
+        final String buildType = variantName == null ? null : buildTypes.get(variantName);
+        final String minimumLevel = buildType == null ? null : extension.minimumLevel(buildType);
+        if (minimumLevel == null && !extension.injectCallers()) {
+            return null;
+        }
+        return new LogStripper(LOGGER, EVENT, minimumLevel == null ? LogStripper.LEVELS.get(0) : minimumLevel,
+                extension.injectCallers());
+    }
+
+    private static void copyDirectory(final LogStripper stripper, final File from, final File to) throws IOException {
+        final File[] files = from.listFiles();
+        if (files == null) {
+            return;
+        }
+        if (!to.isDirectory() && !to.mkdirs()) {
+            throw new IOException("Could not create " + to);
+        }
+        for (final File file : files) {
+            final File target = new File(to, file.getName());
+            if (file.isDirectory()) {
+                copyDirectory(stripper, file, target);
+                continue;
+            }
+            final byte[] bytes = transform(stripper, file.getName(), read(new FileInputStream(file)));
+            final OutputStream out = new FileOutputStream(target);
+            try {
+                out.write(bytes);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static void copyJar(final LogStripper stripper, final File from, final File to) throws IOException {
+        if (!to.getParentFile().isDirectory() && !to.getParentFile().mkdirs()) {
+            throw new IOException("Could not create " + to.getParentFile());
+        }
+        final ZipInputStream in = new ZipInputStream(new FileInputStream(from));
+        try {
+            final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(to));
+            try {
+                ZipEntry entry;
+                while ((entry = in.getNextEntry()) != null) {
+                    out.putNextEntry(new ZipEntry(entry.getName()));
+                    if (!entry.isDirectory()) {
+                        out.write(transform(stripper, entry.getName(), readEntry(in)));
+                    }
+                    out.closeEntry();
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] transform(final LogStripper stripper, final String name, final byte[] bytes) {
+        if (stripper == null || !name.endsWith(CLASS_SUFFIX)) {
+            return bytes;
+        }
+        return stripper.strip(bytes);
+    }
+
+    private static byte[] read(final InputStream in) throws IOException {
+        try {
+            return readEntry(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] readEntry(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
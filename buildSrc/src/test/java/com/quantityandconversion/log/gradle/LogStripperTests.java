@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle;
+
+import com.quantityandconversion.log.gradle.fixture.Caller;
+import com.quantityandconversion.log.gradle.fixture.logging.Event;
+import com.quantityandconversion.log.gradle.fixture.logging.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class LogStripperTests {
+
+    private static final String CALLER = Caller.class.getName();
+    private static final String LOG = internalName(Log.class);
+    private static final String EVENT = internalName(Event.class);
+
+    private static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    @Before
+    public void setup() {
+        Log.calls.clear();
+    }
+
+    private static byte[] classFile(final String className) throws IOException {
+        final InputStream in = LogStripperTests.class.getResourceAsStream("/" + className.replace('.', '/') + ".class");
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Loads Caller as the stripper rewrote it; the logger is shared with the test.
+     */
+    private static Object strippedCaller(final LogStripper stripper) throws Exception {
+        final byte[] stripped = stripper.strip(classFile(CALLER));
+        final ClassLoader loader = new ClassLoader(LogStripperTests.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                if (!name.equals(CALLER)) {
+                    return super.loadClass(name, resolve);
+                }
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = defineClass(name, stripped, 0, stripped.length);
+                }
+                return loaded;
+            }
+        };
+        return loader.loadClass(CALLER).newInstance();
+    }
+
+    private static Object call(final Object caller, final String method, final Object... args) throws Exception {
+        for (final Method candidate : caller.getClass().getMethods()) {
+            if (candidate.getName().equals(method)) {
+                return candidate.invoke(caller, args);
+            }
+        }
+        throw new NoSuchMethodException(method);
+    }
+
+    @Test
+    public void removesCallsBelowTheLevelWithTheirArguments() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", false));
+
+        assertThat(call(caller, "debugWithArgs")).isEqualTo(0);
+        assertThat(call(caller, "infoWithArgs")).isEqualTo(1);
+        assertThat(Log.calls).containsExactly("I built 1");
+    }
+
+    @Test
+    public void keepsEverythingAtOrAboveTheLevel() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "DEBUG", false));
+
+        assertThat(call(caller, "debugWithArgs")).isEqualTo(2);
+        assertThat(Log.calls).containsExactly("D built 1 of many", "D built 2");
+    }
+
+    @Test
+    public void turnsGuardsBelowTheLevelOff() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", false));
+
+        assertThat(call(caller, "guarded")).isEqualTo(0);
+        assertThat(Log.calls).isEmpty();
+    }
+
+    @Test
+    public void keepsArgumentsThatStoreOrBranchButDropsTheCall() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", false));
+
+        assertThat(call(caller, "storingArgs")).isEqualTo(1);
+        assertThat(call(caller, "branchingArgs", true)).isEqualTo(2);
+        assertThat(Log.calls).isEmpty();
+    }
+
+    @Test
+    public void stripsInsideTryBlocks() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", false));
+
+        assertThat(call(caller, "insideTryCatch")).isEqualTo(0);
+        assertThat(Log.calls).containsExactly("E kept");
+    }
+
+    @Test
+    public void removesEventsBelowTheLevel() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", false));
+
+        assertThat(call(caller, "event")).isEqualTo(1);
+        assertThat(Log.calls).containsExactly("I built=1 event");
+    }
+
+    @Test
+    public void namesTheCallerOfCallsThatAreKept() throws Exception {
+        final Object caller = strippedCaller(new LogStripper(LOG, EVENT, "INFO", true));
+
+        call(caller, "infoWithArgs");
+        call(caller, "debugWithArgs");
+
+        assertThat(Log.calls).containsExactly("caller " + CALLER + ".infoWithArgs built %d", "I built 1");
+    }
+
+    @Test
+    public void leavesClassesWithoutLogCallsAlone() throws Exception {
+        final byte[] classFile = classFile(LogStripperTests.class.getName());
+
+        assertThat(new LogStripper(LOG, EVENT, "ASSERT", true).strip(classFile)).isSameAs(classFile);
+    }
+}
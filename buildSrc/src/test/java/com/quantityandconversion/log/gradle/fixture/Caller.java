@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle.fixture;
+
+import com.quantityandconversion.log.gradle.fixture.logging.Log;
+
+/**
+ * Log calls in the shapes the stripper has to handle; each returns how often its arguments were built.
+ */
+public final class Caller {
+//Understands calling the logger the way an app does
+
+    private int built;
+
+    private int build() {
+        return ++built;
+    }
+
+    public int debugWithArgs() {
+        Log.d("built %d of %s", build(), "many");
+        Log.d("built %d", (long) build());
+        return built;
+    }
+
+    public int infoWithArgs() {
+        Log.i("built %d", build());
+        return built;
+    }
+
+    public int guarded() {
+        if (Log.isDebugLoggable()) {
+            build();
+            Log.d("guarded");
+        }
+        return built;
+    }
+
+    public int storingArgs() {
+        final int stored;
+        Log.d("stored %d", stored = build());
+        return stored;
+    }
+
+    public int branchingArgs(final boolean flag) {
+        Log.d("branching %s", flag ? build() : -1);
+        return built;
+    }
+
+    public int insideTryCatch() {
+        try {
+            Log.d("in try %d", build());
+            Log.e("kept");
+        } catch (final RuntimeException e) {
+            build();
+        }
+        return built;
+    }
+
+    public int event() {
+        Log.atDebug().kv("built", build()).log("event");
+        Log.atInfo().kv("built", build()).log("event");
+        return built;
+    }
+}
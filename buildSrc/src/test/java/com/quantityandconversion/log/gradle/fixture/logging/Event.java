@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle.fixture.logging;
+
+/**
+ * Stands in for LogEvent.
+ */
+public final class Event {
+//Understands being the event the stripper looks for
+
+    private final StringBuilder fields = new StringBuilder();
+
+    /* package */ Event(final String level) {
+        fields.append(level);
+    }
+
+    public Event kv(final String key, final Object value) {
+        fields.append(' ').append(key).append('=').append(value);
+        return this;
+    }
+
+    public void log(final String message) {
+        Log.calls.add(fields.append(' ').append(message).toString());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log.gradle.fixture.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stands in for FyzLog: the same method names and shapes, recording what reaches it.
+ */
+public final class Log {
+//Understands being the logger the stripper looks for
+
+    public static final List<String> calls = new ArrayList<>();
+
+    private Log() {
+    }
+
+    public static void caller(final String className, final String methodName, final String msgFormat) {
+        calls.add("caller " + className + "." + methodName + " " + msgFormat);
+    }
+
+    public static boolean isDebugLoggable() {
+        return true;
+    }
+
+    public static boolean isInfoLoggable() {
+        return true;
+    }
+
+    public static Event atDebug() {
+        return new Event("D");
+    }
+
+    public static Event atInfo() {
+        return new Event("I");
+    }
+
+    public static void d(final String msg) {
+        calls.add("D " + msg);
+    }
+
+    public static void d(final String msgFormat, final Object... args) {
+        calls.add("D " + String.format(msgFormat, args));
+    }
+
+    public static void d(final String msgFormat, final long arg) {
+        calls.add("D " + String.format(msgFormat, arg));
+    }
+
+    public static void i(final String msgFormat, final Object... args) {
+        calls.add("I " + String.format(msgFormat, args));
+    }
+
+    public static void e(final String msg) {
+        calls.add("E " + msg);
+    }
+}
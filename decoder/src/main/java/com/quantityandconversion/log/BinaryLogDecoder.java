@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2016 Fyzxs
+ *
+ * Licensed under The MIT License (MIT)
+ */
+
+package com.quantityandconversion.log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Prints binary log segments as the text {@link Logger#SystemOut} writes.
+ * <p>
+ * Usage: {@code BinaryLogDecoder [-t] segment...}
+ * <br>
+ * {@code -t} prefixes each line with the time it was logged.
+ */
+public final class BinaryLogDecoder {
+//Understands reading binary logs off the device
+
+    private BinaryLogDecoder() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        boolean timestamps = false;
+        int decoded = 0;
+        for (final String arg : args) {
+            if ("-t".equals(arg)) {
+                timestamps = true;
+                continue;
+            }
+            decode(new File(arg), timestamps, System.out);
+            decoded++;
+        }
+        if (decoded == 0) {
+            System.err.println("Usage: BinaryLogDecoder [-t] segment...");
+            System.exit(1);
+        }
+    }
+
+    private static void decode(final File segment, final boolean timestamps, final PrintStream out) throws IOException {
+        final SimpleDateFormat time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS ", Locale.US);
+        final BinaryLogReader reader = new BinaryLogReader(new FileInputStream(segment));
+        try {
+            while (reader.next()) {
+                if (timestamps) {
+                    out.print(time.format(new Date(reader.millis())));
+                }
+                out.println(reader.systemOutLine());
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}